@@ -78,16 +78,30 @@ CREATE TABLE post (
     AUTHOR_ID bigint NOT NULL,
     POST_TITLE varchar(255) NOT NULL,
     POST_CONTENT text NULL,
+    PREVIEW_CONTENT varchar(100) NULL,
     ANONYMOUS_YN tinyint(1) DEFAULT 0,
     COMMENTABLE_YN tinyint(1) DEFAULT 0,
     DELETED_YN tinyint(1) DEFAULT 0,
     VIEW_COUNT bigint DEFAULT 0,
     LIKE_COUNT bigint DEFAULT 0,
     SCRAP_COUNT bigint DEFAULT 0,
+    COMMENT_COUNT bigint DEFAULT 0,
     CREATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
     UPDATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (BOARD_ID) REFERENCES board(BOARD_ID),
-    FOREIGN KEY (AUTHOR_ID) REFERENCES member(MEMBER_ID)
+    FOREIGN KEY (AUTHOR_ID) REFERENCES member(MEMBER_ID),
+    INDEX IDX_POST_BOARD_DELETED_UPDATED (BOARD_ID, DELETED_YN, UPDATED_AT, POST_ID),
+    INDEX IDX_POST_DELETED_UPDATED (DELETED_YN, UPDATED_AT, POST_ID),
+    INDEX IDX_POST_AUTHOR_DELETED_UPDATED (AUTHOR_ID, DELETED_YN, UPDATED_AT),
+    INDEX IDX_POST_DELETED_VIEW (DELETED_YN, VIEW_COUNT)
+);
+
+CREATE TABLE post_like_shard (
+    POST_ID bigint NOT NULL,
+    SLOT int NOT NULL,
+    DELTA bigint NOT NULL DEFAULT 0,
+    PRIMARY KEY (POST_ID, SLOT),
+    FOREIGN KEY (POST_ID) REFERENCES post(POST_ID)
 );
 
 CREATE TABLE post_hashtag (
@@ -107,7 +121,8 @@ CREATE TABLE pinned_board (
     CREATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
     UPDATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (BOARD_ID) REFERENCES board(BOARD_ID),
-    FOREIGN KEY (MEMBER_ID) REFERENCES member(MEMBER_ID)
+    FOREIGN KEY (MEMBER_ID) REFERENCES member(MEMBER_ID),
+    INDEX IDX_PINNED_BOARD_MEMBER_ORDER (MEMBER_ID, PINNED_ORDER)
 );
 
 CREATE TABLE comment (
@@ -119,18 +134,24 @@ CREATE TABLE comment (
     ANONYMOUS_YN tinyint(1) DEFAULT 0,
     DELETED_YN tinyint(1) DEFAULT 0,
     LIKE_COUNT bigint DEFAULT 0,
+    CHILD_COUNT bigint DEFAULT 0,
     CREATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
     UPDATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (POST_ID) REFERENCES post(POST_ID),
     FOREIGN KEY (WRITER_ID) REFERENCES member(MEMBER_ID),
-    FOREIGN KEY (PARENT_COMMENT_ID) REFERENCES comment(COMMENT_ID)
+    FOREIGN KEY (PARENT_COMMENT_ID) REFERENCES comment(COMMENT_ID),
+    INDEX IDX_COMMENT_POST_DELETED (POST_ID, DELETED_YN),
+    INDEX IDX_COMMENT_WRITER_POST (WRITER_ID, POST_ID, DELETED_YN),
+    INDEX IDX_COMMENT_POST_PARENT_CREATED (POST_ID, PARENT_COMMENT_ID, DELETED_YN, CREATED_AT),
+    INDEX IDX_COMMENT_PARENT_CREATED (PARENT_COMMENT_ID, DELETED_YN, CREATED_AT)
 );
 
 CREATE TABLE activity_type (
     ACTIVITY_TYPE_ID bigint AUTO_INCREMENT PRIMARY KEY,
     TYPE_NAME varchar(40) NOT NULL,
     CREATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
-    UPDATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP
+    UPDATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY UK_ACTIVITY_TYPE_NAME (TYPE_NAME)
 );
 
 CREATE TABLE member_activity (
@@ -140,14 +161,18 @@ CREATE TABLE member_activity (
     REF_ID bigint NOT NULL,
     CREATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (ACTIVITY_TYPE_ID) REFERENCES activity_type(ACTIVITY_TYPE_ID),
-    FOREIGN KEY (MEMBER_ID) REFERENCES member(MEMBER_ID)
+    FOREIGN KEY (MEMBER_ID) REFERENCES member(MEMBER_ID),
+    UNIQUE KEY UK_MEMBER_ACTIVITY (MEMBER_ID, ACTIVITY_TYPE_ID, REF_ID),
+    INDEX IDX_MEMBER_ACTIVITY_MEMBER_TYPE_CREATED (MEMBER_ID, ACTIVITY_TYPE_ID, CREATED_AT, ACTIVITY_ID),
+    INDEX IDX_MEMBER_ACTIVITY_REF_TYPE (REF_ID, ACTIVITY_TYPE_ID)
 );
 
 CREATE TABLE file_type (
     FILE_TYPE_ID bigint AUTO_INCREMENT PRIMARY KEY,
     TYPE_NAME varchar(40) NOT NULL,
     CREATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
-    UPDATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP
+    UPDATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY UK_FILE_TYPE_NAME (TYPE_NAME)
 );
 
 CREATE TABLE file (
@@ -162,7 +187,8 @@ CREATE TABLE file (
     DELETED_YN tinyint(1) DEFAULT 0,
     CREATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
     UPDATED_AT timestamp NULL DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (FILE_TYPE_ID) REFERENCES file_type(FILE_TYPE_ID)
+    FOREIGN KEY (FILE_TYPE_ID) REFERENCES file_type(FILE_TYPE_ID),
+    INDEX IDX_FILE_REF_TYPE (REF_ID, FILE_TYPE_ID)
 );
 
 CREATE TABLE report (
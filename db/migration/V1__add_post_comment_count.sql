@@ -0,0 +1,10 @@
+USE commtalk_db_v2;
+
+-- 게시글 댓글 수 컬럼 추가
+ALTER TABLE post ADD COLUMN COMMENT_COUNT bigint DEFAULT 0 AFTER SCRAP_COUNT;
+
+-- 기존 게시글 댓글 수 채우기
+UPDATE post p
+SET p.COMMENT_COUNT = (SELECT COUNT(*) FROM comment c WHERE c.POST_ID = p.POST_ID AND c.DELETED_YN = 0);
+
+commit;
@@ -0,0 +1,10 @@
+USE commtalk_db_v2;
+
+-- 게시글 내용 미리보기 컬럼 추가
+ALTER TABLE post ADD COLUMN PREVIEW_CONTENT varchar(100) NULL AFTER POST_CONTENT;
+
+-- 기존 게시글 미리보기 채우기 (공백 정리 후 100자)
+UPDATE post
+SET PREVIEW_CONTENT = LEFT(TRIM(REGEXP_REPLACE(IFNULL(POST_CONTENT, ''), '[[:space:]]+', ' ')), 100);
+
+commit;
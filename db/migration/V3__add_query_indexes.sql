@@ -0,0 +1,24 @@
+USE commtalk_db_v2;
+
+-- 게시글 목록 (게시판별 / 전체 / 작성자별, 최근 수정 순) 및 인기 게시글
+CREATE INDEX IDX_POST_BOARD_DELETED_UPDATED ON post (BOARD_ID, DELETED_YN, UPDATED_AT, POST_ID);
+CREATE INDEX IDX_POST_DELETED_UPDATED ON post (DELETED_YN, UPDATED_AT, POST_ID);
+CREATE INDEX IDX_POST_AUTHOR_DELETED_UPDATED ON post (AUTHOR_ID, DELETED_YN, UPDATED_AT);
+CREATE INDEX IDX_POST_DELETED_VIEW ON post (DELETED_YN, VIEW_COUNT);
+
+-- 게시글 댓글 목록 및 회원 댓글 작성 게시글 조회
+CREATE INDEX IDX_COMMENT_POST_DELETED ON comment (POST_ID, DELETED_YN);
+CREATE INDEX IDX_COMMENT_WRITER_POST ON comment (WRITER_ID, POST_ID, DELETED_YN);
+
+-- 회원 활동 여부 확인 및 활동 일시 순 조회
+CREATE INDEX IDX_MEMBER_ACTIVITY_MEMBER_TYPE_REF ON member_activity (MEMBER_ID, ACTIVITY_TYPE_ID, REF_ID);
+CREATE INDEX IDX_MEMBER_ACTIVITY_MEMBER_TYPE_CREATED ON member_activity (MEMBER_ID, ACTIVITY_TYPE_ID, CREATED_AT, ACTIVITY_ID);
+CREATE INDEX IDX_MEMBER_ACTIVITY_REF_TYPE ON member_activity (REF_ID, ACTIVITY_TYPE_ID);
+
+-- 참조 대상별 파일 조회
+CREATE INDEX IDX_FILE_REF_TYPE ON file (REF_ID, FILE_TYPE_ID);
+
+-- 회원 고정 게시판 순서 조회
+CREATE INDEX IDX_PINNED_BOARD_MEMBER_ORDER ON pinned_board (MEMBER_ID, PINNED_ORDER);
+
+commit;
@@ -0,0 +1,26 @@
+USE commtalk_db_v2;
+
+-- 중복 회원 활동 삭제 (가장 먼저 생성된 활동만 유지)
+DELETE ma1 FROM member_activity ma1
+JOIN member_activity ma2
+    ON ma1.MEMBER_ID = ma2.MEMBER_ID
+    AND ma1.ACTIVITY_TYPE_ID = ma2.ACTIVITY_TYPE_ID
+    AND ma1.REF_ID = ma2.REF_ID
+    AND ma1.ACTIVITY_ID > ma2.ACTIVITY_ID;
+
+-- 중복 삭제 후 좋아요/스크랩 수 다시 계산
+UPDATE post p
+SET p.LIKE_COUNT = (SELECT COUNT(*) FROM member_activity ma JOIN activity_type t ON t.ACTIVITY_TYPE_ID = ma.ACTIVITY_TYPE_ID
+                    WHERE ma.REF_ID = p.POST_ID AND t.TYPE_NAME = 'POST_LIKE'),
+    p.SCRAP_COUNT = (SELECT COUNT(*) FROM member_activity ma JOIN activity_type t ON t.ACTIVITY_TYPE_ID = ma.ACTIVITY_TYPE_ID
+                     WHERE ma.REF_ID = p.POST_ID AND t.TYPE_NAME = 'POST_SCRAP');
+
+UPDATE comment c
+SET c.LIKE_COUNT = (SELECT COUNT(*) FROM member_activity ma JOIN activity_type t ON t.ACTIVITY_TYPE_ID = ma.ACTIVITY_TYPE_ID
+                    WHERE ma.REF_ID = c.COMMENT_ID AND t.TYPE_NAME = 'COMMENT_LIKE');
+
+-- 회원 활동 유니크 키 추가 (기존 인덱스 대체)
+ALTER TABLE member_activity ADD UNIQUE KEY UK_MEMBER_ACTIVITY (MEMBER_ID, ACTIVITY_TYPE_ID, REF_ID);
+ALTER TABLE member_activity DROP INDEX IDX_MEMBER_ACTIVITY_MEMBER_TYPE_REF;
+
+commit;
@@ -0,0 +1,12 @@
+USE commtalk_db_v2;
+
+-- 인기 게시글 좋아요 수 분산 테이블 (게시글별 N개 슬롯에 증감분 누적 후 주기적으로 post.LIKE_COUNT 에 합산)
+CREATE TABLE post_like_shard (
+    POST_ID bigint NOT NULL,
+    SLOT int NOT NULL,
+    DELTA bigint NOT NULL DEFAULT 0,
+    PRIMARY KEY (POST_ID, SLOT),
+    FOREIGN KEY (POST_ID) REFERENCES post(POST_ID)
+);
+
+commit;
@@ -0,0 +1,17 @@
+USE commtalk_db_v2;
+
+-- 댓글 대댓글 수 컬럼 추가
+ALTER TABLE comment ADD COLUMN CHILD_COUNT bigint DEFAULT 0 AFTER LIKE_COUNT;
+
+-- 기존 댓글 대댓글 수 채우기
+UPDATE comment c
+JOIN (SELECT PARENT_COMMENT_ID, COUNT(*) AS CNT FROM comment
+      WHERE PARENT_COMMENT_ID IS NOT NULL AND DELETED_YN = 0 GROUP BY PARENT_COMMENT_ID) r
+    ON r.PARENT_COMMENT_ID = c.COMMENT_ID
+SET c.CHILD_COUNT = r.CNT;
+
+-- 게시글 댓글 목록, 대댓글 목록 (작성 순 커서 조회)
+CREATE INDEX IDX_COMMENT_POST_PARENT_CREATED ON comment (POST_ID, PARENT_COMMENT_ID, DELETED_YN, CREATED_AT);
+CREATE INDEX IDX_COMMENT_PARENT_CREATED ON comment (PARENT_COMMENT_ID, DELETED_YN, CREATED_AT);
+
+commit;
@@ -0,0 +1,7 @@
+USE commtalk_db_v2;
+
+-- 활동/파일 유형 이름 유니크 키 추가 (유형 이름으로 조인하는 조회에서 유형 테이블 전체 스캔 방지)
+ALTER TABLE activity_type ADD UNIQUE KEY UK_ACTIVITY_TYPE_NAME (TYPE_NAME);
+ALTER TABLE file_type ADD UNIQUE KEY UK_FILE_TYPE_NAME (TYPE_NAME);
+
+commit;
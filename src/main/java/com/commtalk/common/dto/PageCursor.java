@@ -0,0 +1,48 @@
+package com.commtalk.common.dto;
+
+import com.commtalk.common.exception.CustomException;
+import com.commtalk.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+
+    private final Timestamp timestamp;
+    private final Long id;
+
+    public static PageCursor of(Timestamp timestamp, Long id) {
+        return new PageCursor(timestamp, id);
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 (정렬 시각, 식별자)로 해석
+     * @param cursor Base64 URL 인코딩된 커서 문자열
+     * @return PageCursor 객체
+     */
+    public static PageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(":");
+            return new PageCursor(new Timestamp(Long.parseLong(values[0])), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 불투명 문자열로 변환
+     * @return Base64 URL 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = timestamp.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.commtalk.common.dto;
+
+public enum PagingMode {
+
+    OFFSET, // 페이지 번호 기반 (전체 페이지 수 포함)
+    CURSOR, // 커서 기반 (마지막 조회 위치 이후부터 조회)
+    SLICE   // 페이지 번호 기반 (전체 개수 조회 없이 다음 페이지 존재 여부만 확인)
+
+}
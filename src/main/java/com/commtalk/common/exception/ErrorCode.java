@@ -10,6 +10,9 @@ public enum ErrorCode {
     // 기타 서버 에러
     SERVER_INTERNAL_ERROR(500, "서버 내부에서 에러가 발생했습니다."),
 
+    // 페이지 에러
+    INVALID_CURSOR(400, "유효하지 않은 페이지 커서입니다."),
+
     // 회원 에러
     DUPLICATE_NICKNAME(409, "닉네임이 중복됩니다."),
     MISMATCH_CURRENT_PASSWORD(400, "현재 비밀번호가 일치하지 않습니다."),
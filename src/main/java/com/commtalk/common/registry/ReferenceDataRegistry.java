@@ -0,0 +1,74 @@
+package com.commtalk.common.registry;
+
+import com.commtalk.common.exception.CustomException;
+import com.commtalk.common.exception.EntityNotFoundException;
+import com.commtalk.common.exception.ErrorCode;
+import com.commtalk.domain.file.entity.FileType;
+import com.commtalk.domain.file.repository.FileTypeRepository;
+import com.commtalk.domain.member.entity.MemberRole;
+import com.commtalk.domain.member.repository.MemberRoleRepository;
+import com.commtalk.domain.post.entity.ActivityType;
+import com.commtalk.domain.post.repository.ActivityTypeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기준 데이터(회원 활동 유형, 파일 유형, 회원 권한) 식별자 저장소
+ * 실행 중 변경되지 않는 기준 테이블을 시작 시 한 번만 조회해 enum 순서로 식별자를 보관
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+
+    private final ActivityTypeRepository activityTypeRepo;
+    private final FileTypeRepository fileTypeRepo;
+    private final MemberRoleRepository memberRoleRepo;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final Long[] activityTypeIds = new Long[ActivityType.TypeName.values().length];
+    private final Long[] fileTypeIds = new Long[FileType.TypeName.values().length];
+    private final Long[] memberRoleIds = new Long[MemberRole.RoleName.values().length];
+
+    @PostConstruct
+    public void init() {
+        activityTypeRepo.findAll().forEach(type -> activityTypeIds[type.getName().ordinal()] = type.getId());
+        fileTypeRepo.findAll().forEach(type -> fileTypeIds[type.getName().ordinal()] = type.getId());
+        memberRoleRepo.findAll().forEach(role -> memberRoleIds[role.getRoleName().ordinal()] = role.getId());
+    }
+
+    public Long getActivityTypeId(ActivityType.TypeName typeName) {
+        Long id = activityTypeIds[typeName.ordinal()];
+        if (id == null) {
+            throw new EntityNotFoundException("회원 활동 유형을 찾을 수 없습니다.");
+        }
+        return id;
+    }
+
+    /**
+     * 파일 유형 참조 (조회 쿼리 없이 식별자만 가진 엔티티, 트랜잭션 안에서 사용)
+     */
+    public FileType getFileType(FileType.TypeName typeName) {
+        Long id = fileTypeIds[typeName.ordinal()];
+        if (id == null) {
+            throw new EntityNotFoundException("파일 유형을 찾을 수 없습니다.");
+        }
+        return em.getReference(FileType.class, id);
+    }
+
+    /**
+     * 회원 권한 참조 (조회 쿼리 없이 식별자만 가진 엔티티, 트랜잭션 안에서 사용)
+     */
+    public MemberRole getMemberRole(MemberRole.RoleName roleName) {
+        Long id = memberRoleIds[roleName.ordinal()];
+        if (id == null) {
+            throw new CustomException(ErrorCode.MEMBER_ROLE_NOT_FOUND);
+        }
+        return em.getReference(MemberRole.class, id);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.commtalk.common.util;
+
+public class CommonStringUtils {
+
+    /**
+     * 앞뒤 공백을 제거하고 연속된 공백(줄바꿈 포함)을 한 칸으로 정리
+     */
+    public static String normalizeWhitespace(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 코드 포인트 기준으로 maxLength 까지 자르기 (서로게이트 쌍이 나뉘지 않음)
+     */
+    public static String truncate(String text, int maxLength) {
+        if (text == null || text.codePointCount(0, text.length()) <= maxLength) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, maxLength));
+    }
+
+    /**
+     * maxLength 를 넘는 경우 잘라서 말줄임 표시 추가
+     */
+    public static String abbreviate(String text, int maxLength) {
+        String truncated = truncate(text, maxLength);
+        return (truncated == null || truncated.length() == text.length()) ? truncated : truncated + " ...";
+    }
+
+}
@@ -47,6 +47,7 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.PATCH,"/api/v1/boards/requests/**").hasAnyAuthority(MemberRole.RoleName.ROLE_ADMIN.name())
+                        .requestMatchers(HttpMethod.GET, "/api/v1/posts/*/comments/export").hasAnyAuthority(MemberRole.RoleName.ROLE_ADMIN.name())
                         .requestMatchers(permitList).permitAll()
                         .requestMatchers("/api/v1/boards/pinned/**").authenticated()
                         .requestMatchers("/api/v1/files/profile/**").authenticated()
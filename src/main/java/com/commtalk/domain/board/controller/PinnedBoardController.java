@@ -6,7 +6,7 @@ import com.commtalk.common.exception.ErrorCode;
 import com.commtalk.domain.board.dto.BoardWithPinDTO;
 import com.commtalk.domain.board.dto.PinnedBoardDTO;
 import com.commtalk.domain.board.service.BoardService;
-import com.commtalk.domain.post.service.CommentService;
+import com.commtalk.domain.post.dto.PostPreviewDTO;
 import com.commtalk.domain.post.service.PostService;
 import com.commtalk.security.JwtAuthenticationProvider;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "board", description = "게시판 API")
 @RestController
@@ -30,19 +31,17 @@ public class PinnedBoardController {
 
     private final BoardService boardSvc;
     private final PostService postSvc;
-    private final CommentService commentSvc;
 
     @Operation(summary = "핀고정 게시판 조회")
     @GetMapping(path = "")
     public ResponseEntity<List<PinnedBoardDTO>> getPinnedBoards(HttpServletRequest request) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
         List<PinnedBoardDTO> boardDtoList = boardSvc.getPinnedBoards(memberId); // 핀고정 게시판 목록 조회
-        boardDtoList
-                .forEach(pb -> {
-                    pb.setPosts(postSvc.getPostPreviewsByBoard(pb.getBoardId(), 2));
-                    pb.getPosts()
-                            .forEach(p -> p.setCommentCnt(commentSvc.getCommentCountByPost(p.getPostId()))); // 게시글 댓글 수 조회
-                }); // 핀고정 게시글 미리보기 조회
+
+        // 핀고정 게시판들의 게시글 미리보기 일괄 조회
+        List<Long> boardIds = boardDtoList.stream().map(PinnedBoardDTO::getBoardId).toList();
+        Map<Long, List<PostPreviewDTO>> postPreviews = postSvc.getPostPreviewsByBoards(boardIds, 2);
+        boardDtoList.forEach(pb -> pb.setPosts(postPreviews.getOrDefault(pb.getBoardId(), List.of())));
         return ResponseEntity.ok(boardDtoList);
     }
 
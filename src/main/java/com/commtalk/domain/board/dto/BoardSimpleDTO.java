@@ -23,4 +23,11 @@ public class BoardSimpleDTO {
                 .build();
     }
 
+    public static BoardSimpleDTO of(Long boardId, String boardName) {
+        return BoardSimpleDTO.builder()
+                .boardId(boardId)
+                .boardName(boardName)
+                .build();
+    }
+
 }
@@ -3,13 +3,13 @@ package com.commtalk.domain.file.service.impl;
 import com.commtalk.common.exception.CustomException;
 import com.commtalk.common.exception.EntityNotFoundException;
 import com.commtalk.common.exception.ErrorCode;
+import com.commtalk.common.registry.ReferenceDataRegistry;
 import com.commtalk.common.util.CommonFileUtils;
 import com.commtalk.domain.file.dto.FileUrlDTO;
 import com.commtalk.domain.file.dto.request.FileCreateRequest;
 import com.commtalk.domain.file.entity.File;
 import com.commtalk.domain.file.entity.FileType;
 import com.commtalk.domain.file.repository.FileRepository;
-import com.commtalk.domain.file.repository.FileTypeRepository;
 import com.commtalk.domain.file.service.FileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,7 +29,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FileServiceImpl implements FileService {
 
-    private final FileTypeRepository fileTypeRepo;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final FileRepository fileRepo;
 
     @Value("${spring.servlet.multipart.location}")
@@ -44,9 +44,8 @@ public class FileServiceImpl implements FileService {
         // 이전 파일 삭제
         deleteFiles(typeName, refId);
 
-        // 파일 유형 조회
-        FileType fileType = fileTypeRepo.findByName(typeName)
-                .orElseThrow(() -> new EntityNotFoundException("파일 유형을 찾을 수 없습니다."));
+        // 파일 유형 참조
+        FileType fileType = referenceDataRegistry.getFileType(typeName);
 
         // 파일 저장
         FileCreateRequest createReq = CommonFileUtils.storeFile(baseDirPath, multipartFile);
@@ -61,9 +60,8 @@ public class FileServiceImpl implements FileService {
         // 이전 파일(리스트) 삭제
         deleteFiles(typeName, refId);
 
-        // 파일 유형 조회
-        FileType fileType = fileTypeRepo.findByName(typeName)
-                .orElseThrow(() -> new EntityNotFoundException("파일 유형을 찾을 수 없습니다."));
+        // 파일 유형 참조
+        FileType fileType = referenceDataRegistry.getFileType(typeName);
 
         // 파일 저장
         List<FileCreateRequest> createReqList = CommonFileUtils.storeFiles(baseDirPath, multipartFiles);
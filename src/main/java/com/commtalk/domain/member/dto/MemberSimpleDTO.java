@@ -17,6 +17,13 @@ public class MemberSimpleDTO {
     @Schema(description = "닉네임")
     private String nickname;
 
+    public static MemberSimpleDTO of(Long memberId, String nickname) {
+        return MemberSimpleDTO.builder()
+                .memberId(memberId)
+                .nickname(nickname)
+                .build();
+    }
+
     public static MemberSimpleDTO from(Member member) {
         return MemberSimpleDTO.builder()
                 .memberId(member.getId())
@@ -2,10 +2,10 @@ package com.commtalk.domain.member.service.impl;
 
 import com.commtalk.common.exception.CustomException;
 import com.commtalk.common.exception.ErrorCode;
+import com.commtalk.common.registry.ReferenceDataRegistry;
 import com.commtalk.domain.member.dto.MemberDTO;
 import com.commtalk.domain.member.dto.request.*;
 import com.commtalk.domain.member.entity.MemberRole;
-import com.commtalk.domain.member.repository.MemberRoleRepository;
 import com.commtalk.security.JwtAuthenticationProvider;
 import com.commtalk.domain.member.entity.MemberPassword;
 import com.commtalk.domain.member.repository.MemberPasswordRepository;
@@ -29,7 +29,7 @@ public class MemberServiceImpl implements MemberService {
     private final JwtAuthenticationProvider jwtAuthenticationProvider;
 
     private final MemberPasswordRepository passwordRepo;
-    private final MemberRoleRepository memberRoleRepo;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final MemberRepository memberRepo;
 
     @Override
@@ -57,8 +57,7 @@ public class MemberServiceImpl implements MemberService {
         }
 
         // 회원 생성
-        MemberRole role = memberRoleRepo.findByRoleName(MemberRole.RoleName.ROLE_USER)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_ROLE_NOT_FOUND));
+        MemberRole role = referenceDataRegistry.getMemberRole(MemberRole.RoleName.ROLE_USER);
         Member member = Member.create(joinReq, role);
         Member newMember = memberRepo.save(member);
         if (newMember.getId() == null) {
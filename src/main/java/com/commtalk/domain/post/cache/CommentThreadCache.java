@@ -0,0 +1,76 @@
+package com.commtalk.domain.post.cache;
+
+import com.commtalk.domain.post.dto.CommentPageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 게시글 댓글 첫 페이지 캐시 (비로그인 조회 기준, 좋아요 여부 제외)
+ * 기본 페이지 크기의 첫 페이지만 캐시하고, 다른 크기는 항상 DB 에서 조회
+ * 댓글 생성/수정/삭제, 좋아요 시 해당 게시글 항목을 제거
+ * 최대 게시글 수를 넘으면 가장 오래 사용하지 않은 게시글부터 제거 (LRU)
+ */
+@Component
+public class CommentThreadCache {
+
+    // 댓글 목록 API 의 기본 페이지 크기 (@PageableDefault)
+    public static final int PAGE_SIZE = 10;
+
+    // 게시글 식별자 -> 첫 페이지
+    private final Map<Long, CommentPageDTO> entries;
+    // 게시글 식별자 -> 마지막 무효화 순번 (최근 무효화된 게시글만 유지)
+    private final Map<Long, Long> invalidations;
+    private long sequence;
+    // 목록에서 밀려난 무효화 순번 중 가장 큰 값 (목록에 없는 게시글은 이 순번에 무효화된 것으로 간주)
+    private long invalidationFloor;
+
+    public CommentThreadCache(@Value("${post.comment-cache.max-entries}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CommentPageDTO> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.invalidations = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() > maxEntries) {
+                    invalidationFloor = Math.max(invalidationFloor, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized CommentPageDTO get(Long postId, int size) {
+        return (size == PAGE_SIZE) ? entries.get(postId) : null;
+    }
+
+    /**
+     * 조회 시작 전 세대 값 (조회 중 해당 게시글의 무효화가 있었는지 확인하는 데 사용)
+     */
+    public synchronized long getGeneration() {
+        return sequence;
+    }
+
+    /**
+     * 조회 시작 후 해당 게시글의 무효화가 없었던 경우에만 저장 (무효화 이전 데이터가 캐시에 남지 않도록)
+     */
+    public synchronized void put(Long postId, int size, CommentPageDTO commentPageDto, long loadedGeneration) {
+        if (size == PAGE_SIZE && invalidations.getOrDefault(postId, invalidationFloor) <= loadedGeneration) {
+            entries.put(postId, commentPageDto);
+        }
+    }
+
+    public synchronized void evict(Long postId) {
+        // 다시 넣어 가장 최근 무효화 순서로 이동
+        invalidations.remove(postId);
+        invalidations.put(postId, ++sequence);
+        entries.remove(postId);
+    }
+
+}
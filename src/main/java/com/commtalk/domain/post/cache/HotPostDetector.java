@@ -0,0 +1,79 @@
+package com.commtalk.domain.post.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인기 게시글(좋아요 요청이 몰리는 게시글) 판별기
+ * 게시글별 좋아요 요청 수를 고정 구간 단위로 세고, 구간 내 요청 수가 임계값 이상이면 일정 시간 동안 인기 게시글로 판단
+ * 인기 게시글의 좋아요 수는 post 행 대신 분산 슬롯(post_like_shard)에 누적
+ */
+@Component
+public class HotPostDetector {
+
+    private final int threshold;
+    private final long windowMillis;
+    private final long holdMillis;
+    private final int shardCount;
+
+    private final Map<Long, RequestWindow> windows = new ConcurrentHashMap<>();
+    private final Map<Long, Long> hotUntil = new ConcurrentHashMap<>();
+
+    public HotPostDetector(@Value("${post.hot-counter.threshold}") int threshold,
+                           @Value("${post.hot-counter.window}") long windowMillis,
+                           @Value("${post.hot-counter.hold}") long holdMillis,
+                           @Value("${post.hot-counter.shards}") int shardCount) {
+        this.threshold = threshold;
+        this.windowMillis = windowMillis;
+        this.holdMillis = holdMillis;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 좋아요 요청 기록 후 인기 게시글이면 true 반환
+     */
+    public boolean recordLike(Long postId) {
+        long now = System.currentTimeMillis();
+        RequestWindow window = windows.compute(postId, (id, current) ->
+                (current == null || now - current.startedAt >= windowMillis) ? new RequestWindow(now) : current);
+
+        int count;
+        synchronized (window) {
+            count = ++window.count;
+        }
+        if (count >= threshold) {
+            hotUntil.put(postId, now + holdMillis);
+            return true;
+        }
+
+        Long until = hotUntil.get(postId);
+        return until != null && until > now;
+    }
+
+    public int pickSlot() {
+        return ThreadLocalRandom.current().nextInt(shardCount);
+    }
+
+    /**
+     * 만료된 구간과 인기 게시글 정리 (분산 슬롯 합산 후 호출)
+     */
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        windows.entrySet().removeIf(entry -> now - entry.getValue().startedAt >= windowMillis);
+        hotUntil.entrySet().removeIf(entry -> entry.getValue() <= now);
+    }
+
+    private static class RequestWindow {
+        private final long startedAt;
+        private int count;
+
+        private RequestWindow(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+
+}
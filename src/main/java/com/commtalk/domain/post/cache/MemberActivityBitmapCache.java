@@ -0,0 +1,128 @@
+package com.commtalk.domain.post.cache;
+
+import com.commtalk.common.registry.ReferenceDataRegistry;
+import com.commtalk.domain.post.entity.ActivityType;
+import com.commtalk.domain.post.repository.MemberActivityRepository;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원별 활동(좋아요, 스크랩) 대상 식별자 캐시 (압축 비트맵)
+ * 회원, 활동 유형별로 처음 조회할 때 member_activity 에서 불러오고, 활동 변경 시 함께 갱신
+ * 최대 항목 수를 넘으면 가장 오래 사용하지 않은 회원부터 제거 (LRU)
+ */
+@Component
+public class MemberActivityBitmapCache {
+
+    private final MemberActivityRepository activityRepo;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final TransactionTemplate loadTransaction;
+    private final Map<Key, Entry> entries;
+
+    public MemberActivityBitmapCache(MemberActivityRepository activityRepo,
+                                     ReferenceDataRegistry referenceDataRegistry,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${post.activity-bitmap.max-entries}") int maxEntries) {
+        this.activityRepo = activityRepo;
+        this.referenceDataRegistry = referenceDataRegistry;
+        // 호출한 서비스 트랜잭션의 스냅샷이 아닌 최신 커밋 기준으로 불러오기 위해 별도 트랜잭션 사용
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 회원이 대상에 활동했는지 확인
+     */
+    public boolean contains(Long memberId, ActivityType.TypeName typeName, Long refId) {
+        Entry entry = load(memberId, typeName);
+        synchronized (entry) {
+            return entry.bitmap.contains(refId);
+        }
+    }
+
+    /**
+     * 대상 목록 중 회원이 활동한 대상 식별자 반환
+     */
+    public Set<Long> filter(Long memberId, ActivityType.TypeName typeName, Collection<Long> refIds) {
+        Entry entry = load(memberId, typeName);
+        Set<Long> result = new HashSet<>();
+        synchronized (entry) {
+            for (Long refId : refIds) {
+                if (entry.bitmap.contains(refId)) {
+                    result.add(refId);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 활동 추가/취소 반영 (캐시에 없는 회원은 다음 조회 시 불러오므로 무시)
+     */
+    public void update(Long memberId, ActivityType.TypeName typeName, Long refId, boolean active) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(new Key(memberId, typeName));
+        }
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (active) {
+                entry.bitmap.addLong(refId);
+            } else {
+                entry.bitmap.removeLong(refId);
+            }
+        }
+    }
+
+    private Entry load(Long memberId, ActivityType.TypeName typeName) {
+        Key key = new Key(memberId, typeName);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+
+        // 항목을 먼저 등록한 뒤 새 트랜잭션에서 불러오므로, 등록 전에 커밋된 변경은 조회 결과에 포함되고
+        // 등록 후 들어온 변경은 항목에 반영된 뒤 조회 결과와 합쳐지거나 불러오기가 끝난 후 반영됨
+        synchronized (entry) {
+            if (!entry.loaded) {
+                Long activityTypeId = referenceDataRegistry.getActivityTypeId(typeName);
+                List<Long> refIds = loadTransaction.execute(status -> activityRepo.findRefIds(memberId, activityTypeId));
+                for (Long refId : refIds) {
+                    entry.bitmap.addLong(refId);
+                }
+                entry.bitmap.runOptimize();
+                entry.loaded = true;
+            }
+        }
+        return entry;
+    }
+
+    private record Key(Long memberId, ActivityType.TypeName typeName) {
+    }
+
+    private static class Entry {
+        private final Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        private boolean loaded;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.commtalk.domain.post.cache;
+
+import com.commtalk.domain.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제되지 않은 게시글 수 캐시 (게시판별 + 전체)
+ * 목록 페이지 정보 계산 시 매번 count 쿼리를 실행하지 않기 위해 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+    private final PostRepository postRepo;
+
+    private volatile Map<Long, AtomicLong> boardCounts = new ConcurrentHashMap<>();
+    private final AtomicLong totalCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * DB 기준으로 게시글 수를 다시 적재하고, 캐시 값과 달랐던 게시판 수를 반환
+     * 집계 쿼리 실행 중 커밋된 생성/삭제는 집계 결과에 포함되었는지 구분할 수 없으므로 다시 반영하지 않음
+     * (다시 반영하면 집계 전에 커밋된 증감이 두 번 더해질 수 있음, 누락된 증감은 다음 재적재 때 보정)
+     */
+    public synchronized int reload() {
+        List<Object[]> counts = postRepo.countGroupByBoardId(false);
+
+        Map<Long, AtomicLong> loaded = new ConcurrentHashMap<>();
+        long total = 0;
+        for (Object[] row : counts) {
+            long count = ((Number) row[1]).longValue();
+            loaded.put((Long) row[0], new AtomicLong(count));
+            total += count;
+        }
+
+        int diffCnt = 0;
+        for (Map.Entry<Long, AtomicLong> entry : loaded.entrySet()) {
+            if (getCount(entry.getKey()) != entry.getValue().get()) {
+                diffCnt++;
+            }
+        }
+        for (Long boardId : boardCounts.keySet()) {
+            if (!loaded.containsKey(boardId) && getCount(boardId) != 0) {
+                diffCnt++;
+            }
+        }
+
+        boardCounts = loaded;
+        totalCount.set(total);
+        return diffCnt;
+    }
+
+    public long getCount(Long boardId) {
+        AtomicLong count = boardCounts.get(boardId);
+        return (count == null) ? 0 : count.get();
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public void increment(Long boardId) {
+        boardCounts.computeIfAbsent(boardId, id -> new AtomicLong()).incrementAndGet();
+        totalCount.incrementAndGet();
+    }
+
+    public void decrement(Long boardId) {
+        boardCounts.computeIfAbsent(boardId, id -> new AtomicLong()).decrementAndGet();
+        totalCount.decrementAndGet();
+    }
+
+}
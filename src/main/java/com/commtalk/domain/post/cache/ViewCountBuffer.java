@@ -0,0 +1,48 @@
+package com.commtalk.domain.post.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 누적 버퍼
+ * 조회 시마다 게시글 행을 갱신하지 않고 메모리에 누적한 뒤 스케줄러가 주기적으로 일괄 반영
+ */
+@Component
+public class ViewCountBuffer {
+
+    // 증가와 꺼내기가 모두 키 단위 원자 연산(merge/remove)이므로 꺼내는 도중 들어온 조회수도 유실되지 않음
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        add(postId, 1);
+    }
+
+    public void add(Long postId, long delta) {
+        pendingCounts.merge(postId, delta, Long::sum);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long getPending(Long postId) {
+        return pendingCounts.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 꺼내고 초기화
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long postId : pendingCounts.keySet()) {
+            Long delta = pendingCounts.remove(postId);
+            if (delta != null && delta > 0) {
+                deltas.put(postId, delta);
+            }
+        }
+        return deltas;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.commtalk.domain.post.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 게시글 일별 중복 조회 필터 (Bloom filter)
+ * (게시글, 조회자) 쌍이 오늘 이미 조회했는지 고정 크기 비트 배열로 판단하며, 매일 초기화
+ * 오탐(처음 조회를 중복으로 판단)은 설정한 확률 이하로 발생하고, 미탐은 발생하지 않음
+ */
+@Component
+public class ViewerDedupFilter {
+
+    private final int bitSize;
+    private final int hashCount;
+    private volatile AtomicLongArray bits;
+
+    public ViewerDedupFilter(@Value("${post.view-dedup.expected-insertions}") long expectedInsertions,
+                             @Value("${post.view-dedup.false-positive-rate}") double falsePositiveRate) {
+        // 예상 조회 수와 오탐률로 비트 수와 해시 함수 수 계산
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.min(optimalBits, Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + 63) / 64);
+    }
+
+    public static String memberKey(Long memberId) {
+        return "m:" + memberId;
+    }
+
+    public static String fingerprintKey(String remoteAddr, String userAgent) {
+        return "a:" + remoteAddr + "|" + userAgent;
+    }
+
+    /**
+     * 조회 기록 후 오늘 처음 조회한 경우 true 반환
+     */
+    public boolean markViewed(Long postId, String viewerKey) {
+        long hash = hash64(postId + ":" + viewerKey);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        AtomicLongArray current = bits;
+        boolean firstView = false;
+        for (int i = 1; i <= hashCount; i++) {
+            int combined = h1 + i * h2;
+            int bitIdx = (combined & Integer.MAX_VALUE) % bitSize;
+            long mask = 1L << (bitIdx & 63);
+            long prev = current.getAndAccumulate(bitIdx >>> 6, mask, (a, b) -> a | b);
+            if ((prev & mask) == 0) {
+                firstView = true;
+            }
+        }
+        return firstView;
+    }
+
+    /**
+     * 하루 단위로 필터 초기화
+     */
+    public void rotate() {
+        bits = new AtomicLongArray(bits.length());
+    }
+
+    private static long hash64(String key) {
+        // FNV-1a 64 + murmur3 fmix64
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
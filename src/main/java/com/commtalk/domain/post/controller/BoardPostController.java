@@ -1,13 +1,13 @@
 package com.commtalk.domain.post.controller;
 
+import com.commtalk.common.dto.PagingMode;
 import com.commtalk.common.dto.ResponseDTO;
 import com.commtalk.domain.board.dto.BoardDTO;
 import com.commtalk.domain.board.service.BoardService;
+import com.commtalk.domain.post.cache.ViewerDedupFilter;
 import com.commtalk.domain.post.dto.*;
 import com.commtalk.domain.post.dto.request.PostCreateRequest;
 import com.commtalk.domain.post.dto.request.PostUpdateRequest;
-import com.commtalk.domain.post.entity.ActivityType;
-import com.commtalk.domain.post.service.CommentService;
 import com.commtalk.domain.post.service.MemberActivityService;
 import com.commtalk.domain.post.service.PostService;
 import com.commtalk.security.JwtAuthenticationProvider;
@@ -33,18 +33,32 @@ public class BoardPostController {
 
     private final BoardService boardSvc;
     private final PostService postSvc;
-    private final CommentService commentSvc;
     private final MemberActivityService memberActivitySvc;
 
-    @Operation(summary = "게시판 게시글 목록 조회")
+    @Operation(summary = "게시판 게시글 목록 조회",
+            description = "paging=CURSOR 인 경우 cursor 이후의 게시글을 조회 (검색 제외), paging=SLICE 인 경우 전체 페이지 수 없이 조회")
     @GetMapping(path = "")
     public ResponseEntity<PostPageDTO> getPosts(@PathVariable Long boardId, @RequestParam(required = false) String keyword,
-                                                @PageableDefault Pageable pageable) {
+                                                @PageableDefault Pageable pageable,
+                                                @RequestParam(defaultValue = "OFFSET") PagingMode paging,
+                                                @RequestParam(required = false) String cursor,
+                                                HttpServletRequest request) {
+        Long memberId = jwtAuthenticationProvider.getMemberId(request);
         boardSvc.isExistsBoard(boardId); // 게시판이 존재하는지 확인
-        PostPageDTO postPageDto = (keyword == null) ? postSvc.getPostsByBoard(boardId, pageable)
-                : postSvc.getPostsByBoardAndKeyword(boardId, keyword, pageable); // 게시글 목록 조회
-        postPageDto.getPosts()
-                .forEach(p -> p.setCommentCnt(commentSvc.getCommentCountByPost(p.getPostId()))); // 게시글 댓글 수 조회
+        PostPageDTO postPageDto;
+        if (keyword != null) {
+            postPageDto = (paging == PagingMode.SLICE) ? postSvc.getPostSliceByBoardAndKeyword(boardId, keyword, pageable)
+                    : postSvc.getPostsByBoardAndKeyword(boardId, keyword, pageable); // 키워드 검색
+        } else {
+            postPageDto = switch (paging) {
+                case CURSOR -> postSvc.getPostsByBoard(boardId, cursor, pageable.getPageSize()); // 커서 기반 게시글 목록 조회
+                case SLICE -> postSvc.getPostSliceByBoard(boardId, pageable); // 전체 개수 없이 게시글 목록 조회
+                default -> postSvc.getPostsByBoard(boardId, pageable); // 게시글 목록 조회
+            };
+        }
+        if (memberId != null) {
+            postSvc.setActivityFlags(memberId, postPageDto); // 좋아요, 스크랩 여부 조회
+        }
         return ResponseEntity.ok(postPageDto);
     }
 
@@ -55,12 +69,12 @@ public class BoardPostController {
         BoardDTO boardDto = boardSvc.getBoard(boardId); // 게시판 조회
         PostDTO postDto;
         if (memberId == null) {
-            postDto = postSvc.getPost(postId); // 게시글 조회
+            String clientFingerprint = ViewerDedupFilter.fingerprintKey(request.getRemoteAddr(), request.getHeader("User-Agent"));
+            postDto = postSvc.getPost(postId, clientFingerprint); // 게시글 조회
         } else {
             postDto = postSvc.getPost(postId, memberId); // 게시글 조회 (좋아요, 스크랩 여부 포함)
         }
         postDto.setBoard(boardDto);
-        postDto.setCommentCnt(commentSvc.getCommentCountByPost(postDto.getPostId())); // 게시글 댓글 수 조회
         return ResponseEntity.ok(postDto);
     }
 
@@ -103,13 +117,7 @@ public class BoardPostController {
                                                         HttpServletRequest request) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
         boardSvc.isExistsBoard(boardId); // 게시판이 존재하는지 확인
-
-        MemberLikeDTO likeDto;
-        if (!memberActivitySvc.isLikeOrScrapPost(memberId, postId, ActivityType.TypeName.POST_LIKE)) {
-            likeDto = memberActivitySvc.likePost(memberId, postId, 1); // 좋아요
-        } else {
-            likeDto = memberActivitySvc.likePost(memberId, postId, -1); // 좋아요 취소
-        }
+        MemberLikeDTO likeDto = memberActivitySvc.likePost(memberId, postId); // 좋아요 및 취소
         return ResponseEntity.ok(likeDto);
     }
 
@@ -119,13 +127,7 @@ public class BoardPostController {
                                                         HttpServletRequest request) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
         boardSvc.isExistsBoard(boardId); // 게시판이 존재하는지 확인
-
-        MemberScrapDTO scrapDto;
-        if (!memberActivitySvc.isLikeOrScrapPost(memberId, postId, ActivityType.TypeName.POST_SCRAP)) {
-            scrapDto = memberActivitySvc.scrapPost(memberId, postId, 1); // 스크랩
-        } else {
-            scrapDto = memberActivitySvc.scrapPost(memberId, postId,-1); // 스크랩 취소
-        }
+        MemberScrapDTO scrapDto = memberActivitySvc.scrapPost(memberId, postId); // 스크랩 및 취소
         return ResponseEntity.ok(scrapDto);
     }
 
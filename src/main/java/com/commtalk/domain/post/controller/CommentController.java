@@ -2,7 +2,8 @@ package com.commtalk.domain.post.controller;
 
 import com.commtalk.common.dto.ResponseDTO;
 import com.commtalk.domain.post.dto.MemberLikeDTO;
-import com.commtalk.domain.post.dto.ParentCommentDTO;
+import com.commtalk.domain.post.dto.CommentPageDTO;
+import com.commtalk.domain.post.dto.ReplyPageDTO;
 import com.commtalk.domain.post.dto.request.CommentCreateRequest;
 import com.commtalk.domain.post.dto.request.CommentUpdateRequest;
 import com.commtalk.domain.post.service.CommentService;
@@ -14,12 +15,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "comment", description = "게시글 댓글 API")
 @RestController
@@ -33,20 +36,40 @@ public class CommentController {
     private final CommentService commentSvc;
     private final MemberActivityService memberActivitySvc;
 
-    @Operation(summary = "게시글 댓글 목록 조회")
+    @Operation(summary = "게시글 댓글 목록 조회",
+            description = "최상위 댓글을 작성 순으로 조회, cursor 가 있으면 cursor 이후의 댓글을 조회 (대댓글은 대댓글 목록 조회 API 사용)")
     @GetMapping(path = "")
-    public ResponseEntity<List<ParentCommentDTO>> getCommentsByPost(@PathVariable Long postId, HttpServletRequest request) {
+    public ResponseEntity<CommentPageDTO> getCommentsByPost(@PathVariable Long postId, @PageableDefault Pageable pageable,
+                                                            @RequestParam(required = false) String cursor,
+                                                            HttpServletRequest request) {
+        Long memberId = jwtAuthenticationProvider.getMemberId(request);
+        postSvc.isExistsPost(postId); // 게시글이 존재하는지 확인
+        CommentPageDTO commentPageDto = commentSvc.getCommentsByPost(postId, memberId, cursor, pageable.getPageSize()); // 게시글 댓글 목록 조회 (로그인한 경우 좋아요 여부 포함)
+        return ResponseEntity.ok(commentPageDto);
+    }
+
+    @Operation(summary = "대댓글 목록 조회", description = "작성 순으로 조회, cursor 가 있으면 cursor 이후의 대댓글을 조회")
+    @GetMapping(path = "/{commentId}/replies")
+    public ResponseEntity<ReplyPageDTO> getReplies(@PathVariable Long postId, @PathVariable Long commentId,
+                                                   @PageableDefault Pageable pageable,
+                                                   @RequestParam(required = false) String cursor,
+                                                   HttpServletRequest request) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
         postSvc.isExistsPost(postId); // 게시글이 존재하는지 확인
-        List<ParentCommentDTO> commentDtoList;
-        if (memberId == null) {
-            commentDtoList = commentSvc.getCommentsByPost(postId); // 게시글 댓글 목록 조회
-        } else {
-            commentDtoList = commentSvc.getCommentsByPost(postId, memberId); // 게시글 댓글 목록 조회 (좋아요 여부 포함)
-        }
-        return ResponseEntity.ok(commentDtoList);
+        ReplyPageDTO replyPageDto = commentSvc.getReplies(postId, commentId, memberId, cursor, pageable.getPageSize()); // 대댓글 목록 조회 (로그인한 경우 좋아요 여부 포함)
+        return ResponseEntity.ok(replyPageDto);
     }
 
+    @Operation(summary = "게시글 댓글 내보내기 (관리자)",
+            description = "게시글의 모든 댓글(대댓글, 삭제된 댓글 포함)을 작성 순으로 한 줄에 하나씩 NDJSON 으로 스트리밍")
+    @GetMapping(path = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportComments(@PathVariable Long postId) {
+        postSvc.isExistsPost(postId); // 게시글이 존재하는지 확인
+        StreamingResponseBody body = out -> commentSvc.exportComments(postId, out); // 댓글 스트리밍 (응답 스레드에서 실행)
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"post-" + postId + "-comments.ndjson\"")
+                .body(body);
+    }
 
     @Operation(summary = "게시글 댓글 생성")
     @PostMapping(path = "")
@@ -85,13 +108,7 @@ public class CommentController {
                                                      HttpServletRequest request) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
         postSvc.isExistsPost(postId); // 게시글이 존재하는지 확인
-
-        MemberLikeDTO likeDto;
-        if (!memberActivitySvc.isLikeComment(memberId, commentId)) {
-            likeDto = memberActivitySvc.likeComment(memberId, commentId, 1); // 좋아요
-        } else {
-            likeDto = memberActivitySvc.likeComment(memberId, commentId, -1); // 좋아요 취소
-        }
+        MemberLikeDTO likeDto = memberActivitySvc.likeComment(memberId, commentId); // 좋아요 및 취소
         return ResponseEntity.ok(likeDto);
     }
 
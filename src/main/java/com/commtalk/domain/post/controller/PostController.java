@@ -1,10 +1,9 @@
 package com.commtalk.domain.post.controller;
 
+import com.commtalk.common.dto.PagingMode;
 import com.commtalk.domain.post.dto.PostPageDTO;
 import com.commtalk.domain.post.dto.PostPreviewDTO;
 import com.commtalk.domain.post.entity.ActivityType;
-import com.commtalk.domain.post.service.CommentService;
-import com.commtalk.domain.post.service.MemberActivityService;
 import com.commtalk.domain.post.service.PostService;
 import com.commtalk.security.JwtAuthenticationProvider;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,59 +26,93 @@ public class PostController {
     private final JwtAuthenticationProvider jwtAuthenticationProvider;
 
     private final PostService postSvc;
-    private final CommentService commentSvc;
-    private final MemberActivityService memberActivitySvc;
 
-    @Operation(summary = "게시글 목록 조회")
+    @Operation(summary = "게시글 목록 조회",
+            description = "paging=CURSOR 인 경우 cursor 이후의 게시글을 조회 (검색 제외), paging=SLICE 인 경우 전체 페이지 수 없이 조회")
     @GetMapping(path = "")
-    public ResponseEntity<PostPageDTO> getPostsByKeyword(@RequestParam(required = false) String keyword, @PageableDefault Pageable pageable) {
-        PostPageDTO postPageDto = (keyword == null) ? postSvc.getPosts(pageable)
-                : postSvc.getPostsByKeyword(keyword, pageable); // 게시글 목록 조회
-        postPageDto.getPosts()
-                .forEach(p -> p.setCommentCnt(commentSvc.getCommentCountByPost(p.getPostId()))); // 게시글 댓글 수 조회
+    public ResponseEntity<PostPageDTO> getPostsByKeyword(@RequestParam(required = false) String keyword, @PageableDefault Pageable pageable,
+                                                         @RequestParam(defaultValue = "OFFSET") PagingMode paging,
+                                                         @RequestParam(required = false) String cursor,
+                                                         HttpServletRequest request) {
+        Long memberId = jwtAuthenticationProvider.getMemberId(request);
+        PostPageDTO postPageDto;
+        if (keyword != null) {
+            postPageDto = (paging == PagingMode.SLICE) ? postSvc.getPostSliceByKeyword(keyword, pageable)
+                    : postSvc.getPostsByKeyword(keyword, pageable); // 키워드 검색
+        } else {
+            postPageDto = switch (paging) {
+                case CURSOR -> postSvc.getPosts(cursor, pageable.getPageSize()); // 커서 기반 게시글 목록 조회
+                case SLICE -> postSvc.getPostSlice(pageable); // 전체 개수 없이 게시글 목록 조회
+                default -> postSvc.getPosts(pageable); // 게시글 목록 조회
+            };
+        }
+        if (memberId != null) {
+            postSvc.setActivityFlags(memberId, postPageDto); // 좋아요, 스크랩 여부 조회
+        }
         return ResponseEntity.ok(postPageDto);
     }
 
     @Operation(summary = "회원 작성 게시글 목록 조회")
     @GetMapping(path = "/me/posted")
-    public ResponseEntity<PostPageDTO> getPostsByAuthor(@PageableDefault Pageable pageable, HttpServletRequest request) {
+    public ResponseEntity<PostPageDTO> getPostsByAuthor(@PageableDefault Pageable pageable, HttpServletRequest request,
+                                                        @RequestParam(defaultValue = "OFFSET") PagingMode paging) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
-        PostPageDTO postPageDto = postSvc.getPostsByAuthor(memberId, pageable); // 게시글 목록 조회
-        postPageDto.getPosts()
-                .forEach(p -> p.setCommentCnt(commentSvc.getCommentCountByPost(p.getPostId()))); // 게시글 댓글 수 조회
+        PostPageDTO postPageDto = (paging == PagingMode.SLICE) ? postSvc.getPostSliceByAuthor(memberId, pageable)
+                : postSvc.getPostsByAuthor(memberId, pageable); // 게시글 목록 조회
+        if (memberId != null) {
+            postSvc.setActivityFlags(memberId, postPageDto); // 좋아요, 스크랩 여부 조회
+        }
         return ResponseEntity.ok(postPageDto);
     }
 
-    @Operation(summary = "회원 댓글 작성 게시글 목록 조회")
+    @Operation(summary = "회원 댓글 작성 게시글 목록 조회", description = "paging=CURSOR 인 경우 cursor 이후의 게시글을 조회")
     @GetMapping(path = "/me/commented")
-    public ResponseEntity<PostPageDTO> getPostsByCommenter(@PageableDefault Pageable pageable, HttpServletRequest request) {
+    public ResponseEntity<PostPageDTO> getPostsByCommenter(@PageableDefault Pageable pageable, HttpServletRequest request,
+                                                           @RequestParam(defaultValue = "OFFSET") PagingMode paging,
+                                                           @RequestParam(required = false) String cursor) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
-        List<Long> postIds = commentSvc.getPostIdsByCommenter(memberId);
-        PostPageDTO postPageDto = postSvc.getPostsByIds(postIds, pageable); // 게시글 목록 조회
-        postPageDto.getPosts()
-                .forEach(p -> p.setCommentCnt(commentSvc.getCommentCountByPost(p.getPostId()))); // 게시글 댓글 수 조회
+        PostPageDTO postPageDto = switch (paging) {
+            case CURSOR -> postSvc.getPostsByCommenter(memberId, cursor, pageable.getPageSize()); // 커서 기반 게시글 목록 조회
+            case SLICE -> postSvc.getPostSliceByCommenter(memberId, pageable); // 전체 개수 없이 게시글 목록 조회
+            default -> postSvc.getPostsByCommenter(memberId, pageable); // 게시글 목록 조회
+        };
+        if (memberId != null) {
+            postSvc.setActivityFlags(memberId, postPageDto); // 좋아요, 스크랩 여부 조회
+        }
         return ResponseEntity.ok(postPageDto);
     }
 
-    @Operation(summary = "회원 좋아요 게시글 목록 조회")
+    @Operation(summary = "회원 좋아요 게시글 목록 조회", description = "좋아요한 일시 순으로 조회, paging=CURSOR 인 경우 cursor 이후의 게시글을 조회")
     @GetMapping(path = "/me/liked")
-    public ResponseEntity<PostPageDTO> getPostsByLike(@PageableDefault Pageable pageable, HttpServletRequest request) {
+    public ResponseEntity<PostPageDTO> getPostsByLike(@PageableDefault Pageable pageable, HttpServletRequest request,
+                                                      @RequestParam(defaultValue = "OFFSET") PagingMode paging,
+                                                      @RequestParam(required = false) String cursor) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
-        List<Long> postIds = memberActivitySvc.getPostIdsByLikeOrScrap(memberId, ActivityType.TypeName.POST_LIKE);
-        PostPageDTO postPageDto = postSvc.getPostsByIds(postIds, pageable); // 게시글 목록 조회
-        postPageDto.getPosts()
-                .forEach(p -> p.setCommentCnt(commentSvc.getCommentCountByPost(p.getPostId()))); // 게시글 댓글 수 조회
+        PostPageDTO postPageDto = switch (paging) {
+            case CURSOR -> postSvc.getPostsByActivity(memberId, ActivityType.TypeName.POST_LIKE, cursor, pageable.getPageSize()); // 커서 기반 게시글 목록 조회
+            case SLICE -> postSvc.getPostSliceByActivity(memberId, ActivityType.TypeName.POST_LIKE, pageable); // 전체 개수 없이 게시글 목록 조회
+            default -> postSvc.getPostsByActivity(memberId, ActivityType.TypeName.POST_LIKE, pageable); // 게시글 목록 조회
+        };
+        if (memberId != null) {
+            postSvc.setActivityFlags(memberId, postPageDto); // 좋아요, 스크랩 여부 조회
+        }
         return ResponseEntity.ok(postPageDto);
     }
 
-    @Operation(summary = "회원 스크랩 게시글 목록 조회")
+    @Operation(summary = "회원 스크랩 게시글 목록 조회", description = "스크랩한 일시 순으로 조회, paging=CURSOR 인 경우 cursor 이후의 게시글을 조회")
     @GetMapping(path = "/me/scrapped")
-    public ResponseEntity<PostPageDTO> getPostsByScrap(@PageableDefault Pageable pageable, HttpServletRequest request) {
+    public ResponseEntity<PostPageDTO> getPostsByScrap(@PageableDefault Pageable pageable, HttpServletRequest request,
+                                                       @RequestParam(defaultValue = "OFFSET") PagingMode paging,
+                                                       @RequestParam(required = false) String cursor) {
         Long memberId = jwtAuthenticationProvider.getMemberId(request);
-        List<Long> postIds = memberActivitySvc.getPostIdsByLikeOrScrap(memberId, ActivityType.TypeName.POST_SCRAP);
-        PostPageDTO postPageDto = postSvc.getPostsByIds(postIds, pageable); // 게시글 목록 조회
-        postPageDto.getPosts()
-                .forEach(p -> p.setCommentCnt(commentSvc.getCommentCountByPost(p.getPostId()))); // 게시글 댓글 수 조회
+        PostPageDTO postPageDto = switch (paging) {
+            case CURSOR -> postSvc.getPostsByActivity(memberId, ActivityType.TypeName.POST_SCRAP, cursor, pageable.getPageSize()); // 커서 기반 게시글 목록 조회
+            case SLICE -> postSvc.getPostSliceByActivity(memberId, ActivityType.TypeName.POST_SCRAP, pageable); // 전체 개수 없이 게시글 목록 조회
+            default -> postSvc.getPostsByActivity(memberId, ActivityType.TypeName.POST_SCRAP, pageable); // 게시글 목록 조회
+        };
+        if (memberId != null) {
+            postSvc.setActivityFlags(memberId, postPageDto); // 좋아요, 스크랩 여부 조회
+        }
         return ResponseEntity.ok(postPageDto);
     }
 
@@ -87,8 +120,6 @@ public class PostController {
     @GetMapping(path = "/popular")
     public ResponseEntity<List<PostPreviewDTO>> getPostsByViews() {
         List<PostPreviewDTO> postPreviewDtoList = postSvc.getPostPreviewsTop3ByViews(); // 게시글 목록 조회
-        postPreviewDtoList
-                .forEach(p -> p.setCommentCnt(commentSvc.getCommentCountByPost(p.getPostId()))); // 게시글 댓글 수 조회
         return ResponseEntity.ok(postPreviewDtoList);
     }
 
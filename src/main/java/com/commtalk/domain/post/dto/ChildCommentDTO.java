@@ -1,7 +1,7 @@
 package com.commtalk.domain.post.dto;
 
-import com.commtalk.domain.post.entity.Comment;
 import com.commtalk.domain.member.dto.MemberSimpleDTO;
+import com.commtalk.domain.post.repository.projection.CommentProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,14 +37,14 @@ public class ChildCommentDTO {
     @Schema(description = "좋아요 여부")
     private boolean likeYN;
 
-    public static ChildCommentDTO from(Comment comment, boolean likeYN) {
+    public static ChildCommentDTO of(CommentProjection comment, boolean likeYN) {
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
         return ChildCommentDTO.builder()
-                .commentId(comment.getId())
-                .parentId(comment.getParent().getId())
+                .commentId(comment.getCommentId())
+                .parentId(comment.getParentId())
                 .content(comment.getContent())
-                .writer(MemberSimpleDTO.from(comment.getWriter()))
+                .writer(MemberSimpleDTO.of(comment.getWriterId(), comment.getWriterNickname()))
                 .anonymousYN(comment.isAnonymousYN())
                 .likeCount(comment.getLikeCount())
                 .updatedAt(sdf.format(comment.getUpdatedAt()))
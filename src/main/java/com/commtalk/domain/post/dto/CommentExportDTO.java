@@ -0,0 +1,60 @@
+package com.commtalk.domain.post.dto;
+
+import com.commtalk.domain.post.repository.projection.CommentExportProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.text.SimpleDateFormat;
+
+@Getter
+@Builder
+@Schema(description = "댓글 내보내기 정보 (NDJSON 한 줄)")
+public class CommentExportDTO {
+
+    @Schema(description = "댓글 식별자")
+    private Long commentId;
+
+    @Schema(description = "상위 댓글 식별자 (최상위 댓글인 경우 null)")
+    private Long parentId;
+
+    @Schema(description = "작성자 식별자")
+    private Long writerId;
+
+    @Schema(description = "작성자 닉네임")
+    private String writerNickname;
+
+    @Schema(description = "댓글 내용")
+    private String content;
+
+    @Schema(description = "익명 여부")
+    private boolean anonymousYN;
+
+    @Schema(description = "삭제 여부")
+    private boolean deletedYN;
+
+    @Schema(description = "좋아요 수")
+    private long likeCount;
+
+    @Schema(description = "작성 일시")
+    private String createdAt;
+
+    @Schema(description = "최근 수정 일시")
+    private String updatedAt;
+
+    public static CommentExportDTO of(CommentExportProjection comment, SimpleDateFormat sdf) {
+        return CommentExportDTO.builder()
+                .commentId(comment.getCommentId())
+                .parentId(comment.getParentId())
+                .writerId(comment.getWriterId())
+                .writerNickname(comment.getWriterNickname())
+                .content(comment.getContent())
+                .anonymousYN(comment.isAnonymousYN())
+                .deletedYN(comment.isDeletedYN())
+                .likeCount(comment.getLikeCount())
+                .createdAt(sdf.format(comment.getCreatedAt()))
+                .updatedAt(sdf.format(comment.getUpdatedAt()))
+                .build();
+    }
+
+}
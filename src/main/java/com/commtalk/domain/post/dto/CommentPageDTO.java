@@ -0,0 +1,49 @@
+package com.commtalk.domain.post.dto;
+
+import com.commtalk.common.dto.PageCursor;
+import com.commtalk.domain.post.repository.projection.CommentProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Builder(toBuilder = true)
+@Schema(description = "게시글 댓글 페이지 정보")
+public class CommentPageDTO {
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지인 경우 null)")
+    private String nextCursor;
+
+    @Schema(description = "댓글 목록 (작성 순)")
+    private List<ParentCommentDTO> comments;
+
+    public static CommentPageDTO of(List<CommentProjection> commentList, int size, Set<Long> likedIds) {
+        // size + 1 개를 조회했으므로 초과분이 있으면 다음 페이지가 존재
+        boolean hasNext = commentList.size() > size;
+        List<CommentProjection> content = (hasNext) ? commentList.subList(0, size) : commentList;
+
+        return CommentPageDTO.builder()
+                .nextCursor((hasNext) ? nextCursor(content) : null)
+                .comments(content.stream().map(c -> ParentCommentDTO.of(c, likedIds.contains(c.getCommentId()))).toList())
+                .build();
+    }
+
+    /**
+     * 회원별 좋아요 여부를 반영한 사본 반환 (캐시된 페이지는 변경하지 않음)
+     */
+    public CommentPageDTO withLikedIds(Set<Long> likedIds) {
+        return toBuilder()
+                .comments(comments.stream().map(c -> c.toBuilder().likeYN(likedIds.contains(c.getCommentId())).build()).toList())
+                .build();
+    }
+
+    static String nextCursor(List<CommentProjection> content) {
+        // 댓글 작성 일시 기준 커서
+        CommentProjection last = content.get(content.size() - 1);
+        return PageCursor.of(last.getCreatedAt(), last.getCommentId()).encode();
+    }
+
+}
@@ -1,18 +1,15 @@
 package com.commtalk.domain.post.dto;
 
-import com.commtalk.domain.post.entity.Comment;
 import com.commtalk.domain.member.dto.MemberSimpleDTO;
+import com.commtalk.domain.post.repository.projection.CommentProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "댓글 정보")
 public class ParentCommentDTO {
 
@@ -34,33 +31,23 @@ public class ParentCommentDTO {
     @Schema(description = "최근 수정 일시")
     private String updatedAt;
 
-    @Schema(description = "대댓글 목록")
-    private List<ChildCommentDTO> children;
-
-    @Setter
-    @Schema(description = "대댓글 수")
+    @Schema(description = "대댓글 수 (대댓글 목록은 별도 조회)")
     private long childCount;
 
     @Schema(description = "좋아요 여부")
     private boolean likeYN;
 
-    public void addChildComment(ChildCommentDTO childCommentDto) {
-        if (children == null) {
-            children = new ArrayList<>();
-        }
-        children.add(childCommentDto);
-    }
-
-    public static ParentCommentDTO from(Comment comment, boolean likeYN) {
+    public static ParentCommentDTO of(CommentProjection comment, boolean likeYN) {
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
         return ParentCommentDTO.builder()
-                .commentId(comment.getId())
+                .commentId(comment.getCommentId())
                 .content(comment.getContent())
-                .writer(MemberSimpleDTO.from(comment.getWriter()))
+                .writer(MemberSimpleDTO.of(comment.getWriterId(), comment.getWriterNickname()))
                 .anonymousYN(comment.isAnonymousYN())
                 .likeCount(comment.getLikeCount())
                 .updatedAt(sdf.format(comment.getUpdatedAt()))
+                .childCount(comment.getChildCount())
                 .likeYN(likeYN)
                 .build();
     }
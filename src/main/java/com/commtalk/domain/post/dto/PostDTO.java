@@ -42,7 +42,6 @@ public class PostDTO {
     @Schema(description = "익명 여부")
     private boolean anonymousYN;
 
-    @Setter
     @Schema(description = "댓글 수")
     private long commentCnt;
 
@@ -64,7 +63,8 @@ public class PostDTO {
     @Schema(description = "스크랩 여부")
     private boolean scrapYN;
 
-    public static PostDTO from(Post post, List<PostHashtag> postHashtagList, boolean likeYN, boolean scrapYN) {
+    public static PostDTO from(Post post, long pendingViewCnt, long pendingLikeCnt, List<PostHashtag> postHashtagList,
+                               boolean likeYN, boolean scrapYN) {
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
         return PostDTO.builder()
@@ -75,8 +75,9 @@ public class PostDTO {
                 .updatedAt(sdf.format(post.getUpdatedAt()))
                 .commentableYN(post.isCommentableYN())
                 .anonymousYN(post.isAnonymousYN())
-                .viewCnt(post.getViewCount())
-                .likeCnt(post.getLikeCount())
+                .commentCnt(post.getCommentCount())
+                .viewCnt(post.getViewCount() + pendingViewCnt) // 아직 반영되지 않은 조회수 포함
+                .likeCnt(post.getLikeCount() + pendingLikeCnt) // 분산 슬롯에 누적된 좋아요 수 포함
                 .scrapCnt(post.getScrapCount())
                 .hashtags(postHashtagList.stream().map(PostHashtagDTO::from).toList())
                 .likeYN(likeYN)
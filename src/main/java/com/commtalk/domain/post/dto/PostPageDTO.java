@@ -1,12 +1,16 @@
 package com.commtalk.domain.post.dto;
 
-import com.commtalk.domain.post.entity.Post;
+import com.commtalk.common.dto.PageCursor;
+import com.commtalk.domain.post.repository.projection.PostActivityProjection;
+import com.commtalk.domain.post.repository.projection.PostSimpleProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Getter
 @Builder
@@ -25,16 +29,57 @@ public class PostPageDTO {
     @Schema(description = "다음 페이지 번호")
     private int next;
 
+    @Schema(description = "다음 페이지 커서 (커서 기반 조회 시)")
+    private String nextCursor;
+
     @Schema(description = "게시글 목록")
     private List<PostSimpleDTO> posts;
 
-    public static PostPageDTO of(Page<Post> postPage) {
+    public static PostPageDTO of(Page<? extends PostSimpleProjection> postPage, int previewLength) {
         return PostPageDTO.builder()
                 .totalPages(postPage.getTotalPages())
                 .pageNumber(postPage.getNumber())
                 .previous((postPage.hasPrevious()) ? postPage.previousPageable().getPageNumber() : -1)
                 .next((postPage.hasNext()) ? postPage.nextPageable().getPageNumber() : -1)
-                .posts(postPage.getContent().stream().map(PostSimpleDTO::of).toList())
+                .posts(postPage.getContent().stream().map(post -> PostSimpleDTO.of(post, previewLength)).toList())
+                .build();
+    }
+
+    public static PostPageDTO ofSlice(Slice<? extends PostSimpleProjection> postSlice, int previewLength) {
+        // 전체 개수를 조회하지 않으므로 전체 페이지 수는 -1
+        return PostPageDTO.builder()
+                .totalPages(-1)
+                .pageNumber(postSlice.getNumber())
+                .previous((postSlice.hasPrevious()) ? postSlice.previousPageable().getPageNumber() : -1)
+                .next((postSlice.hasNext()) ? postSlice.nextPageable().getPageNumber() : -1)
+                .posts(postSlice.getContent().stream().map(post -> PostSimpleDTO.of(post, previewLength)).toList())
+                .build();
+    }
+
+    public static PostPageDTO ofCursor(List<PostSimpleProjection> postList, int size, int previewLength) {
+        // 게시글 최근 수정 일시 기준 커서
+        return ofCursor(postList, size, previewLength, last -> PageCursor.of(last.getUpdatedAt(), last.getPostId()));
+    }
+
+    public static PostPageDTO ofActivityCursor(List<PostActivityProjection> postList, int size, int previewLength) {
+        // 회원 활동 일시 기준 커서
+        return ofCursor(postList, size, previewLength, last -> PageCursor.of(last.getActivityAt(), last.getActivityId()));
+    }
+
+    private static <T extends PostSimpleProjection> PostPageDTO ofCursor(List<T> postList, int size, int previewLength,
+                                                                         Function<T, PageCursor> cursorOf) {
+        // size + 1 개를 조회했으므로 초과분이 있으면 다음 페이지가 존재
+        boolean hasNext = postList.size() > size;
+        List<T> content = (hasNext) ? postList.subList(0, size) : postList;
+        T last = (content.isEmpty()) ? null : content.get(content.size() - 1);
+
+        return PostPageDTO.builder()
+                .totalPages(-1)
+                .pageNumber(-1)
+                .previous(-1)
+                .next(-1)
+                .nextCursor((hasNext) ? cursorOf.apply(last).encode() : null)
+                .posts(content.stream().map(post -> PostSimpleDTO.of(post, previewLength)).toList())
                 .build();
     }
 
@@ -1,11 +1,10 @@
 package com.commtalk.domain.post.dto;
 
 import com.commtalk.domain.board.dto.BoardSimpleDTO;
-import com.commtalk.domain.post.entity.Post;
+import com.commtalk.domain.post.repository.projection.PostSimpleProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
 
 @Getter
 @Builder
@@ -24,7 +23,6 @@ public class PostPreviewDTO {
     @Schema(description = "댓글 허용 여부")
     private boolean commentableYN;
 
-    @Setter
     @Schema(description = "댓글 수")
     private long commentCnt;
 
@@ -34,12 +32,13 @@ public class PostPreviewDTO {
     @Schema(description = "좋아요 수")
     private long likeCnt;
 
-    public static PostPreviewDTO of(Post post) {
+    public static PostPreviewDTO of(PostSimpleProjection post) {
         return PostPreviewDTO.builder()
-                .postId(post.getId())
-                .board(BoardSimpleDTO.from(post.getBoard()))
+                .postId(post.getPostId())
+                .board(BoardSimpleDTO.of(post.getBoardId(), post.getBoardName()))
                 .title(post.getTitle())
                 .commentableYN(post.isCommentableYN())
+                .commentCnt(post.getCommentCount())
                 .viewCnt(post.getViewCount())
                 .likeCnt(post.getLikeCount())
                 .build();
@@ -1,7 +1,8 @@
 package com.commtalk.domain.post.dto;
 
+import com.commtalk.common.util.CommonStringUtils;
 import com.commtalk.domain.board.dto.BoardSimpleDTO;
-import com.commtalk.domain.post.entity.Post;
+import com.commtalk.domain.post.repository.projection.PostSimpleProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -35,7 +36,6 @@ public class PostSimpleDTO {
     @Schema(description = "댓글 허용 여부")
     private boolean commentableYN;
 
-    @Setter
     @Schema(description = "댓글 수")
     private long commentCnt;
 
@@ -45,18 +45,26 @@ public class PostSimpleDTO {
     @Schema(description = "좋아요 수")
     private long likeCnt;
 
-    public static PostSimpleDTO of(Post post) {
+    @Setter
+    @Schema(description = "좋아요 여부 (로그인한 경우)")
+    private boolean likeYN;
+
+    @Setter
+    @Schema(description = "스크랩 여부 (로그인한 경우)")
+    private boolean scrapYN;
+
+    public static PostSimpleDTO of(PostSimpleProjection post, int previewLength) {
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        String content = post.getContent();
 
         return PostSimpleDTO.builder()
-                .postId(post.getId())
+                .postId(post.getPostId())
                 .title(post.getTitle())
-                .previewContent((content.length() > 10) ? content.substring(0, 10) + " ..." : content)
-                .board(BoardSimpleDTO.from(post.getBoard()))
-                .authorName((post.isAnonymousYN()) ? "익명" : post.getAuthor().getMemberName())
+                .previewContent(CommonStringUtils.abbreviate(post.getPreviewContent(), previewLength))
+                .board(BoardSimpleDTO.of(post.getBoardId(), post.getBoardName()))
+                .authorName((post.isAnonymousYN()) ? "익명" : post.getAuthorName())
                 .updatedAt(sdf.format(post.getUpdatedAt()))
                 .commentableYN(post.isCommentableYN())
+                .commentCnt(post.getCommentCount())
                 .viewCnt(post.getViewCount())
                 .likeCnt(post.getLikeCount())
                 .build();
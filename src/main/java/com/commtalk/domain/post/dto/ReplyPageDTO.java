@@ -0,0 +1,33 @@
+package com.commtalk.domain.post.dto;
+
+import com.commtalk.domain.post.repository.projection.CommentProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Builder
+@Schema(description = "대댓글 페이지 정보")
+public class ReplyPageDTO {
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지인 경우 null)")
+    private String nextCursor;
+
+    @Schema(description = "대댓글 목록 (작성 순)")
+    private List<ChildCommentDTO> replies;
+
+    public static ReplyPageDTO of(List<CommentProjection> replyList, int size, Set<Long> likedIds) {
+        // size + 1 개를 조회했으므로 초과분이 있으면 다음 페이지가 존재
+        boolean hasNext = replyList.size() > size;
+        List<CommentProjection> content = (hasNext) ? replyList.subList(0, size) : replyList;
+
+        return ReplyPageDTO.builder()
+                .nextCursor((hasNext) ? CommentPageDTO.nextCursor(content) : null)
+                .replies(content.stream().map(c -> ChildCommentDTO.of(c, likedIds.contains(c.getCommentId()))).toList())
+                .build();
+    }
+
+}
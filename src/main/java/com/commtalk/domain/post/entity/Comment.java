@@ -49,9 +49,11 @@ public class Comment {
     @Column(name = "deleted_yn")
     private boolean deletedYN;
 
-    @Setter
-    @Column(name = "like_count")
-    private long likeCount;
+    @Column(name = "like_count", insertable = false, updatable = false)
+    private long likeCount; // 좋아요/취소 시 증감 쿼리로만 갱신
+
+    @Column(name = "child_count", insertable = false, updatable = false)
+    private long childCount; // 대댓글 생성/삭제 시 증감 쿼리로만 갱신
 
     @Column(name = "created_at")
     private Timestamp createdAt;
@@ -1,6 +1,7 @@
 package com.commtalk.domain.post.entity;
 
 import com.commtalk.common.entity.BaseEntity;
+import com.commtalk.common.util.CommonStringUtils;
 import com.commtalk.domain.board.entity.Board;
 import com.commtalk.domain.post.dto.request.PostCreateRequest;
 import com.commtalk.domain.member.entity.Member;
@@ -22,6 +23,8 @@ import java.time.LocalDateTime;
 @Table(name = "post")
 public class Post {
 
+    public static final int PREVIEW_MAX_LENGTH = 100; // 저장되는 미리보기 최대 길이 (preview_content 컬럼 크기)
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "post_id")
@@ -43,6 +46,10 @@ public class Post {
     @Column(name = "post_content", nullable = false)
     private String content;
 
+    @Setter
+    @Column(name = "preview_content")
+    private String previewContent;
+
     @Setter
     @Column(name = "anonymous_yn")
     private boolean anonymousYN;
@@ -55,17 +62,17 @@ public class Post {
     @Column(name = "deleted_yn")
     private boolean deletedYN;
 
-    @Setter
-    @Column(name = "view_count")
-    private long viewCount;
+    @Column(name = "view_count", insertable = false, updatable = false)
+    private long viewCount; // 조회수 버퍼에서 일괄 반영 쿼리로만 갱신
 
-    @Setter
-    @Column(name = "like_count")
-    private long likeCount;
+    @Column(name = "like_count", insertable = false, updatable = false)
+    private long likeCount; // 좋아요/취소 시 증감 쿼리로만 갱신
 
-    @Setter
-    @Column(name = "scrap_count")
-    private long scrapCount;
+    @Column(name = "scrap_count", insertable = false, updatable = false)
+    private long scrapCount; // 스크랩/취소 시 증감 쿼리로만 갱신
+
+    @Column(name = "comment_count", insertable = false, updatable = false)
+    private long commentCount; // 댓글 생성/삭제 시 증감 쿼리로만 갱신
 
     @Column(name = "created_at")
     private Timestamp createdAt;
@@ -96,6 +103,7 @@ public class Post {
                 .author(member)
                 .title(createReq.getTitle())
                 .content(createReq.getContent())
+                .previewContent(createPreview(createReq.getContent()))
                 .anonymousYN(createReq.isAnonymousYN())
                 .commentableYN(createReq.isCommentableYN())
                 .viewCount(0)
@@ -104,4 +112,9 @@ public class Post {
                 .build();
     }
 
+    public static String createPreview(String content) {
+        // 공백 정리 후 코드 포인트 기준으로 자르기
+        return CommonStringUtils.truncate(CommonStringUtils.normalizeWhitespace(content), PREVIEW_MAX_LENGTH);
+    }
+
 }
@@ -0,0 +1,45 @@
+package com.commtalk.domain.post.policy;
+
+import com.commtalk.domain.post.entity.Post;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 클라이언트 유형(X-Client-Type 헤더)별 게시글 미리보기 길이 정책
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post.preview")
+public class PostPreviewPolicy {
+
+    public static final String CLIENT_TYPE_HEADER = "X-Client-Type";
+
+    private int defaultLength = 10;
+    private Map<String, Integer> lengths = new HashMap<>();
+
+    /**
+     * 현재 요청의 클라이언트 유형에 맞는 미리보기 길이 조회
+     */
+    public int getPreviewLength() {
+        int length = defaultLength;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String clientType = request.getHeader(CLIENT_TYPE_HEADER);
+            if (clientType != null) {
+                length = lengths.getOrDefault(clientType.toLowerCase(), defaultLength);
+            }
+        }
+        // 잘림 여부를 판단할 수 있도록 저장된 미리보기 길이보다 짧게 제한
+        return Math.min(length, Post.PREVIEW_MAX_LENGTH - 1);
+    }
+
+}
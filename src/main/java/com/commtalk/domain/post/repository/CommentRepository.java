@@ -1,32 +1,85 @@
 package com.commtalk.domain.post.repository;
 
-import com.commtalk.domain.post.entity.ActivityType;
 import com.commtalk.domain.post.entity.Comment;
+import com.commtalk.domain.post.repository.projection.CommentExportProjection;
+import com.commtalk.domain.post.repository.projection.CommentProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    String THREAD_SELECT = "SELECT c.id AS commentId, c.parent.id AS parentId, c.content AS content, " +
+            "w.id AS writerId, w.nickname AS writerNickname, c.anonymousYN AS anonymousYN, " +
+            "c.likeCount AS likeCount, c.childCount AS childCount, c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Comment c JOIN c.writer w ";
+    String AFTER_CURSOR = "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :commentId)) ";
+    String THREAD_ORDER = "ORDER BY c.createdAt, c.id";
+
     @Query(value = "SELECT DISTINCT c FROM Comment c " +
             "JOIN FETCH c.writer w " +
             "WHERE c.id = :commentId AND c.deletedYN = :deletedYN")
     Optional<Comment> findByIdWithWriter(Long commentId, boolean deletedYN);
 
-    List<Comment> findByPostIdAndDeletedYN(Long postId, boolean deletedYN);
+    @Query(THREAD_SELECT +
+            "WHERE c.post.id = :postId AND c.parent IS NULL AND c.deletedYN = :deletedYN " +
+            THREAD_ORDER)
+    List<CommentProjection> findTopLevelList(Long postId, boolean deletedYN, Pageable pageable);
+
+    @Query(THREAD_SELECT +
+            "WHERE c.post.id = :postId AND c.parent IS NULL AND c.deletedYN = :deletedYN " +
+            AFTER_CURSOR +
+            THREAD_ORDER)
+    List<CommentProjection> findTopLevelListByCursor(Long postId, Timestamp createdAt, Long commentId, boolean deletedYN,
+                                                     Pageable pageable);
+
+    @Query(THREAD_SELECT +
+            "WHERE c.parent.id = :parentId AND c.post.id = :postId AND c.deletedYN = :deletedYN " +
+            THREAD_ORDER)
+    List<CommentProjection> findReplyList(Long postId, Long parentId, boolean deletedYN, Pageable pageable);
+
+    @Query(THREAD_SELECT +
+            "WHERE c.parent.id = :parentId AND c.post.id = :postId AND c.deletedYN = :deletedYN " +
+            AFTER_CURSOR +
+            THREAD_ORDER)
+    List<CommentProjection> findReplyListByCursor(Long postId, Long parentId, Timestamp createdAt, Long commentId,
+                                                  boolean deletedYN, Pageable pageable);
+
+    /**
+     * 게시글의 모든 댓글(삭제 포함)을 작성 순으로 스트리밍 조회 (트랜잭션 안에서 사용 후 닫아야 함)
+     * fetch size 를 Integer.MIN_VALUE 로 지정하면 MySQL 드라이버가 결과를 한 행씩 전달하므로 댓글 수와 관계없이 메모리 사용량이 일정
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c.id AS commentId, c.parent.id AS parentId, c.content AS content, " +
+            "w.id AS writerId, w.nickname AS writerNickname, c.anonymousYN AS anonymousYN, c.deletedYN AS deletedYN, " +
+            "c.likeCount AS likeCount, c.childCount AS childCount, c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Comment c JOIN c.writer w " +
+            "WHERE c.post.id = :postId " +
+            "ORDER BY c.id")
+    Stream<CommentExportProjection> streamAllByPostId(Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE comment SET like_count = like_count + :delta WHERE comment_id = :commentId", nativeQuery = true)
+    int updateLikeCount(Long commentId, long delta);
 
-    @Query("SELECT DISTINCT c, ma.id FROM Comment c " +
-            "LEFT JOIN MemberActivity ma ON c.id = ma.refId AND ma.member.id = :memberId AND ma.type.name = :typeName " +
-            "WHERE c.post.id = :postId AND c.deletedYN = :deletedYN")
-    List<Object[]> findByPostIdAndDeletedYN(Long postId, boolean deletedYN, Long memberId, ActivityType.TypeName typeName);
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findLikeCountById(Long commentId);
 
-    Long countByPostIdAndDeletedYN(Long postId, boolean deletedYN);
+    @Query("SELECT c.post.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findPostIdById(Long commentId);
 
-    @Query(value = "SELECT DISTINCT c.post.id FROM Comment c " +
-            "JOIN c.writer w " +
-            "WHERE w.id = :writerId AND c.deletedYN = :deletedYN")
-    List<Long> findPostIdsByWriterId(Long writerId, boolean deletedYN);
+    @Modifying
+    @Query(value = "UPDATE comment SET child_count = child_count + :delta WHERE comment_id = :commentId", nativeQuery = true)
+    int updateChildCount(Long commentId, long delta);
 
 }
@@ -3,24 +3,26 @@ package com.commtalk.domain.post.repository;
 import com.commtalk.domain.post.entity.ActivityType;
 import com.commtalk.domain.post.entity.MemberActivity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface MemberActivityRepository extends JpaRepository<MemberActivity, Long> {
 
-    Optional<MemberActivity> findByMemberIdAndRefIdAndTypeName(Long memberId, Long refId, ActivityType.TypeName typeName);
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO member_activity (activity_type_id, member_id, ref_id, created_at) " +
+            "VALUES (:activityTypeId, :memberId, :refId, NOW())", nativeQuery = true)
+    int insertIgnore(Long memberId, Long refId, Long activityTypeId);
 
-    boolean existsByMemberIdAndRefIdAndTypeName(Long memberId, Long refId, ActivityType.TypeName typeName);
+    @Modifying
+    @Query(value = "DELETE FROM member_activity " +
+            "WHERE member_id = :memberId AND activity_type_id = :activityTypeId AND ref_id = :refId", nativeQuery = true)
+    int delete(Long memberId, Long refId, Long activityTypeId);
 
-    void deleteByMemberIdAndRefIdAndTypeName(Long memberId, Long refId, ActivityType.TypeName typeName);
+    @Query("SELECT ma.refId FROM MemberActivity ma WHERE ma.member.id = :memberId AND ma.type.id = :activityTypeId")
+    List<Long> findRefIds(Long memberId, Long activityTypeId);
 
     void deleteAllByRefIdAndTypeName(Long refId, ActivityType.TypeName typeName);
 
-    @Query(value = "SELECT DISTINCT ma.refId FROM MemberActivity ma " +
-            "JOIN ma.member m " +
-            "WHERE m.id = :memberId AND ma.type.name = :typeName")
-    List<Long> getRefIdsByMemberIdAndTypeName(Long memberId, ActivityType.TypeName typeName);
-
 }
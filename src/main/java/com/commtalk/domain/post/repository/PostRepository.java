@@ -2,50 +2,199 @@ package com.commtalk.domain.post.repository;
 
 import com.commtalk.domain.post.entity.ActivityType;
 import com.commtalk.domain.post.entity.Post;
+import com.commtalk.domain.post.repository.projection.PostActivityProjection;
+import com.commtalk.domain.post.repository.projection.PostSearchDocument;
+import com.commtalk.domain.post.repository.projection.PostSimpleProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
-    @Query("SELECT DISTINCT p, ma_l.id, ma_s.id FROM Post p " +
-            "LEFT JOIN MemberActivity ma_l ON p.id = ma_l.refId AND ma_l.member.id = :memberId AND ma_l.type.name = :lTypeName " +
-            "LEFT JOIN MemberActivity ma_s ON p.id = ma_s.refId AND ma_s.member.id = :memberId AND ma_s.type.name = :sTypeName " +
-            "WHERE p.id = :id AND p.deletedYN = :deletedYN")
-    Optional<Object[]> findById(Long id, Long memberId, ActivityType.TypeName lTypeName,
-                                ActivityType.TypeName sTypeName, boolean deletedYN);
+    // 목록 조회용 프로젝션 컬럼 (게시글 내용 대신 저장된 미리보기 조회)
+    String SIMPLE_COLUMNS = "p.id AS postId, p.title AS title, p.previewContent AS previewContent, " +
+            "b.id AS boardId, b.boardName AS boardName, p.anonymousYN AS anonymousYN, a.memberName AS authorName, " +
+            "p.updatedAt AS updatedAt, p.commentableYN AS commentableYN, p.commentCount AS commentCount, " +
+            "p.viewCount AS viewCount, p.likeCount AS likeCount ";
 
-    @EntityGraph(attributePaths = {"board", "author"})
-    Page<Post> findByDeletedYNOrderByUpdatedAtDesc(boolean deletedYN, Pageable pageable);
+    String SIMPLE_SELECT = "SELECT " + SIMPLE_COLUMNS + "FROM Post p JOIN p.board b JOIN p.author a ";
 
-    @EntityGraph(attributePaths = {"board", "author"})
-    Page<Post> findByBoardIdAndDeletedYNOrderByUpdatedAtDesc(Long boardId, boolean deletedYN, Pageable pageable);
+    // 회원 활동(좋아요, 스크랩)에서 게시글로 조인 (활동 일시 순 정렬용)
+    String ACTIVITY_SELECT = "SELECT " + SIMPLE_COLUMNS + ", ma.id AS activityId, ma.createdAt AS activityAt " +
+            "FROM MemberActivity ma JOIN Post p ON p.id = ma.refId JOIN p.board b JOIN p.author a ";
 
-    @EntityGraph(attributePaths = {"board", "author"})
-    Page<Post> findByBoardIdAndDeletedYNOrderByViewCountDesc(Long boardId, boolean deletedYN, Pageable pageable);
+    String ACTIVITY_WHERE = "WHERE ma.member.id = :memberId AND ma.type.name = :typeName AND p.deletedYN = :deletedYN ";
 
-    @EntityGraph(attributePaths = {"board", "author"})
-    Page<Post> findByTitleContainingOrContentContainingAndDeletedYNOrderByUpdatedAtDesc(
-            String titleKeyword, String contentKeyword, boolean deletedYN, Pageable pageable);
+    // 회원이 삭제되지 않은 댓글을 작성한 게시글 조건 (semi-join)
+    String COMMENTED_BY = "EXISTS (SELECT 1 FROM Comment c " +
+            "WHERE c.post.id = p.id AND c.writer.id = :writerId AND c.deletedYN = false) ";
 
-    @EntityGraph(attributePaths = {"board", "author"})
-    Page<Post> findByBoardIdAndTitleContainingOrContentContainingAndDeletedYNOrderByUpdatedAtDesc(
-            Long boardId, String titleKeyword, String contentKeyword, boolean deletedYN, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<Post> findByIdAndDeletedYN(Long id, boolean deletedYN);
 
-    @EntityGraph(attributePaths = {"board", "author"})
-    Page<Post> findByAuthorIdAndDeletedYNOrderByUpdatedAtDesc(Long authorId, boolean deletedYN, Pageable pageable);
+    @Query(SIMPLE_SELECT +
+            "WHERE p.id IN :postIds")
+    List<PostSimpleProjection> findSimpleListByIds(List<Long> postIds);
 
-    @EntityGraph(attributePaths = {"board", "author"})
-    Page<Post> findByIdInAndDeletedYNOrderByUpdatedAtDesc(List<Long> postIds, boolean deletedYN, Pageable pageable);
+    /**
+     * 검색 색인용 게시글 스트리밍 조회 (트랜잭션 안에서 사용 후 닫아야 함)
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p.id AS postId, p.board.id AS boardId, p.title AS title, p.content AS content, p.updatedAt AS updatedAt " +
+            "FROM Post p WHERE p.deletedYN = :deletedYN ORDER BY p.id")
+    Stream<PostSearchDocument> streamSearchDocuments(boolean deletedYN);
 
-    @EntityGraph(attributePaths = {"board", "author"})
-    Page<Post> findByDeletedYNOrderByViewCountDesc(boolean deletedYN, Pageable pageable);
+    @Query(SIMPLE_SELECT +
+            "WHERE p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PostSimpleProjection> findSimpleList(boolean deletedYN, Pageable pageable);
 
-    int countByBoardIdAndDeletedYN(Long boardId, boolean deletedYN);
+    @Query(SIMPLE_SELECT +
+            "WHERE p.deletedYN = :deletedYN " +
+            "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :postId)) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PostSimpleProjection> findSimpleListByCursor(Timestamp updatedAt, Long postId, boolean deletedYN, Pageable pageable);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    Slice<PostSimpleProjection> findSimpleSlice(boolean deletedYN, Pageable pageable);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE p.board.id = :boardId AND p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PostSimpleProjection> findSimpleListByBoardId(Long boardId, boolean deletedYN, Pageable pageable);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE p.board.id = :boardId AND p.deletedYN = :deletedYN " +
+            "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :postId)) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PostSimpleProjection> findSimpleListByBoardIdAndCursor(Long boardId, Timestamp updatedAt, Long postId,
+                                                               boolean deletedYN, Pageable pageable);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE p.board.id = :boardId AND p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    Slice<PostSimpleProjection> findSimpleSliceByBoardId(Long boardId, boolean deletedYN, Pageable pageable);
+
+    @Query(value = SIMPLE_SELECT +
+            "WHERE p.author.id = :authorId AND p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.author.id = :authorId AND p.deletedYN = :deletedYN")
+    Page<PostSimpleProjection> findSimplePageByAuthorId(Long authorId, boolean deletedYN, Pageable pageable);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE p.author.id = :authorId AND p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    Slice<PostSimpleProjection> findSimpleSliceByAuthorId(Long authorId, boolean deletedYN, Pageable pageable);
+
+    @Query(value = SIMPLE_SELECT +
+            "WHERE " + COMMENTED_BY + "AND p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + COMMENTED_BY + "AND p.deletedYN = :deletedYN")
+    Page<PostSimpleProjection> findSimplePageByCommenterId(Long writerId, boolean deletedYN, Pageable pageable);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE " + COMMENTED_BY + "AND p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    Slice<PostSimpleProjection> findSimpleSliceByCommenterId(Long writerId, boolean deletedYN, Pageable pageable);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE " + COMMENTED_BY + "AND p.deletedYN = :deletedYN " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PostSimpleProjection> findSimpleListByCommenterId(Long writerId, boolean deletedYN, Pageable pageable);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE " + COMMENTED_BY + "AND p.deletedYN = :deletedYN " +
+            "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :postId)) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<PostSimpleProjection> findSimpleListByCommenterIdAndCursor(Long writerId, Timestamp updatedAt, Long postId,
+                                                                    boolean deletedYN, Pageable pageable);
+
+    @Query(value = ACTIVITY_SELECT + ACTIVITY_WHERE +
+            "ORDER BY ma.createdAt DESC, ma.id DESC",
+            countQuery = "SELECT COUNT(ma) FROM MemberActivity ma JOIN Post p ON p.id = ma.refId " + ACTIVITY_WHERE)
+    Page<PostActivityProjection> findActivityPage(Long memberId, ActivityType.TypeName typeName, boolean deletedYN,
+                                                  Pageable pageable);
+
+    @Query(ACTIVITY_SELECT + ACTIVITY_WHERE +
+            "ORDER BY ma.createdAt DESC, ma.id DESC")
+    Slice<PostActivityProjection> findActivitySlice(Long memberId, ActivityType.TypeName typeName, boolean deletedYN,
+                                                    Pageable pageable);
+
+    @Query(ACTIVITY_SELECT + ACTIVITY_WHERE +
+            "ORDER BY ma.createdAt DESC, ma.id DESC")
+    List<PostActivityProjection> findActivityList(Long memberId, ActivityType.TypeName typeName, boolean deletedYN,
+                                                  Pageable pageable);
+
+    @Query(ACTIVITY_SELECT + ACTIVITY_WHERE +
+            "AND (ma.createdAt < :createdAt OR (ma.createdAt = :createdAt AND ma.id < :activityId)) " +
+            "ORDER BY ma.createdAt DESC, ma.id DESC")
+    List<PostActivityProjection> findActivityListByCursor(Long memberId, ActivityType.TypeName typeName,
+                                                          Timestamp createdAt, Long activityId, boolean deletedYN,
+                                                          Pageable pageable);
+
+    @Query(value = "SELECT r.postId, r.title, r.previewContent, r.boardId, r.boardName, r.anonymousYN, r.authorName, " +
+            "r.updatedAt, r.commentableYN, r.commentCount, r.viewCount, r.likeCount FROM (" +
+            "SELECT p.post_id AS postId, p.post_title AS title, p.preview_content AS previewContent, " +
+            "b.board_id AS boardId, b.board_name AS boardName, p.anonymous_yn AS anonymousYN, a.member_name AS authorName, " +
+            "p.updated_at AS updatedAt, p.commentable_yn AS commentableYN, p.comment_count AS commentCount, " +
+            "p.view_count AS viewCount, p.like_count AS likeCount, " +
+            "ROW_NUMBER() OVER (PARTITION BY p.board_id ORDER BY p.view_count DESC, p.post_id DESC) AS rn " +
+            "FROM post p JOIN board b ON b.board_id = p.board_id JOIN member a ON a.member_id = p.author_id " +
+            "WHERE p.board_id IN (:boardIds) AND p.deleted_yn = :deletedYN" +
+            ") r WHERE r.rn <= :size ORDER BY r.boardId, r.rn", nativeQuery = true)
+    List<PostSimpleProjection> findTopByViewsPerBoard(List<Long> boardIds, int size, boolean deletedYN);
+
+    @Query(SIMPLE_SELECT +
+            "WHERE p.deletedYN = :deletedYN " +
+            "ORDER BY p.viewCount DESC")
+    List<PostSimpleProjection> findSimpleListOrderByViews(boolean deletedYN, Pageable pageable);
+
+    @Query("SELECT p.board.id, COUNT(p) FROM Post p WHERE p.deletedYN = :deletedYN GROUP BY p.board.id")
+    List<Object[]> countGroupByBoardId(boolean deletedYN);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Post p")
+    Long findMaxId();
+
+    @Modifying
+    @Query(value = "UPDATE post SET comment_count = comment_count + :delta WHERE post_id = :postId", nativeQuery = true)
+    int updateCommentCount(Long postId, long delta);
+
+    @Modifying
+    @Query(value = "UPDATE post SET like_count = like_count + :delta WHERE post_id = :postId", nativeQuery = true)
+    int updateLikeCount(Long postId, long delta);
+
+    @Modifying
+    @Query(value = "UPDATE post SET scrap_count = scrap_count + :delta WHERE post_id = :postId", nativeQuery = true)
+    int updateScrapCount(Long postId, long delta);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findLikeCountById(Long postId);
+
+    @Query("SELECT p.scrapCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findScrapCountById(Long postId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE post p " +
+            "SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id AND c.deleted_yn = 0) " +
+            "WHERE p.post_id BETWEEN :startId AND :endId " +
+            "AND p.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id AND c.deleted_yn = 0)",
+            nativeQuery = true)
+    int reconcileCommentCount(Long startId, Long endId);
 
 }
@@ -0,0 +1,18 @@
+package com.commtalk.domain.post.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PostRepositoryCustom {
+
+    void addViewCounts(Map<Long, Long> viewCountDeltas);
+
+    void addLikeShard(Long postId, int slot, long delta);
+
+    long sumLikeShards(Long postId);
+
+    List<Long> findLikeShardPostIds();
+
+    long foldLikeShards(Long postId);
+
+}
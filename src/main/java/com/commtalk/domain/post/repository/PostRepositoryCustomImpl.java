@@ -0,0 +1,55 @@
+package com.commtalk.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addViewCounts(Map<Long, Long> viewCountDeltas) {
+        // 게시글별 조회수 증가분을 한 번의 배치로 반영 (updated_at 은 변경하지 않음)
+        List<Object[]> batchArgs = viewCountDeltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE post SET view_count = view_count + ? WHERE post_id = ?", batchArgs);
+    }
+
+    @Override
+    public void addLikeShard(Long postId, int slot, long delta) {
+        // 슬롯 행에 증감분 누적 (슬롯이 없으면 생성)
+        jdbcTemplate.update("INSERT INTO post_like_shard (post_id, slot, delta) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE delta = delta + VALUES(delta)", postId, slot, delta);
+    }
+
+    @Override
+    public long sumLikeShards(Long postId) {
+        Long sum = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(delta), 0) FROM post_like_shard WHERE post_id = ?",
+                Long.class, postId);
+        return (sum != null) ? sum : 0;
+    }
+
+    @Override
+    public List<Long> findLikeShardPostIds() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT post_id FROM post_like_shard", Long.class);
+    }
+
+    @Override
+    public long foldLikeShards(Long postId) {
+        // 슬롯 행을 잠근 채 합산 후 삭제하므로 합산 중 들어온 증감분은 잠금이 풀린 뒤 새 슬롯 행에 누적됨 (트랜잭션 안에서 호출)
+        Long sum = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(delta), 0) FROM post_like_shard WHERE post_id = ? FOR UPDATE",
+                Long.class, postId);
+        long delta = (sum != null) ? sum : 0;
+        if (delta != 0) {
+            jdbcTemplate.update("UPDATE post SET like_count = like_count + ? WHERE post_id = ?", delta, postId);
+        }
+        jdbcTemplate.update("DELETE FROM post_like_shard WHERE post_id = ?", postId);
+        return delta;
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.commtalk.domain.post.repository.projection;
+
+/**
+ * 댓글 내보내기용 프로젝션 (삭제된 댓글 포함)
+ */
+public interface CommentExportProjection extends CommentProjection {
+
+    boolean isDeletedYN();
+
+}
@@ -0,0 +1,31 @@
+package com.commtalk.domain.post.repository.projection;
+
+import java.sql.Timestamp;
+
+/**
+ * 댓글 목록 조회용 프로젝션
+ * 작성자는 필요한 컬럼(식별자, 닉네임)만 같은 쿼리에서 조회하므로 회원 엔티티를 불러오지 않음
+ */
+public interface CommentProjection {
+
+    Long getCommentId();
+
+    Long getParentId();
+
+    String getContent();
+
+    Long getWriterId();
+
+    String getWriterNickname();
+
+    boolean isAnonymousYN();
+
+    long getLikeCount();
+
+    long getChildCount();
+
+    Timestamp getCreatedAt();
+
+    Timestamp getUpdatedAt();
+
+}
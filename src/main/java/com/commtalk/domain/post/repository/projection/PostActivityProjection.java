@@ -0,0 +1,14 @@
+package com.commtalk.domain.post.repository.projection;
+
+import java.sql.Timestamp;
+
+/**
+ * 회원 활동(좋아요, 스크랩) 기준 게시글 목록 조회용 프로젝션
+ */
+public interface PostActivityProjection extends PostSimpleProjection {
+
+    Long getActivityId();
+
+    Timestamp getActivityAt();
+
+}
@@ -0,0 +1,20 @@
+package com.commtalk.domain.post.repository.projection;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 검색 색인용 프로젝션
+ */
+public interface PostSearchDocument {
+
+    Long getPostId();
+
+    Long getBoardId();
+
+    String getTitle();
+
+    String getContent();
+
+    Timestamp getUpdatedAt();
+
+}
@@ -0,0 +1,35 @@
+package com.commtalk.domain.post.repository.projection;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 목록 조회용 프로젝션
+ * 목록에 필요한 컬럼만 조회하며, 게시글 내용 대신 저장된 미리보기를 조회
+ */
+public interface PostSimpleProjection {
+
+    Long getPostId();
+
+    String getTitle();
+
+    String getPreviewContent();
+
+    Long getBoardId();
+
+    String getBoardName();
+
+    boolean isAnonymousYN();
+
+    String getAuthorName();
+
+    Timestamp getUpdatedAt();
+
+    boolean isCommentableYN();
+
+    long getCommentCount();
+
+    long getViewCount();
+
+    long getLikeCount();
+
+}
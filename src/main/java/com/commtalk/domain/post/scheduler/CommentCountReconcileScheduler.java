@@ -0,0 +1,34 @@
+package com.commtalk.domain.post.scheduler;
+
+import com.commtalk.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileScheduler {
+
+    private final PostRepository postRepo;
+
+    @Value("${scheduler.comment-count.chunk-size}")
+    private int chunkSize;
+
+    /**
+     * 게시글 댓글 수 보정
+     * 증감 쿼리로 관리되는 comment_count 값이 실제 댓글 수와 어긋난 게시글을 청크 단위로 재계산
+     */
+    @Scheduled(cron = "${scheduler.comment-count.cron}")
+    public void reconcileCommentCount() {
+        long maxId = postRepo.findMaxId();
+        int fixedCnt = 0;
+        for (long startId = 1; startId <= maxId; startId += chunkSize) {
+            fixedCnt += postRepo.reconcileCommentCount(startId, startId + chunkSize - 1); // 청크마다 별도 트랜잭션
+        }
+        log.info("게시글 댓글 수 보정 완료 - 보정된 게시글 수: {}", fixedCnt);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.commtalk.domain.post.scheduler;
+
+import com.commtalk.domain.post.cache.HotPostDetector;
+import com.commtalk.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeShardFoldScheduler {
+
+    private final PostRepository postRepo;
+    private final HotPostDetector hotPostDetector;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 인기 게시글 좋아요 수 합산
+     * 분산 슬롯에 누적된 좋아요 증감분을 주기적으로 post.like_count 에 합산
+     */
+    @Scheduled(fixedDelayString = "${scheduler.like-shard.fold-delay}")
+    public void foldLikeShards() {
+        for (Long postId : postRepo.findLikeShardPostIds()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> postRepo.foldLikeShards(postId)); // 게시글마다 별도 트랜잭션
+            } catch (RuntimeException e) {
+                log.error("게시글 좋아요 수 합산 실패 - 게시글 식별자: {}", postId, e); // 슬롯이 남아 있으므로 다음 주기에 다시 합산
+            }
+        }
+        hotPostDetector.evictExpired();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.commtalk.domain.post.scheduler;
+
+import com.commtalk.domain.post.cache.PostCountCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountVerifyScheduler {
+
+    private final PostCountCache postCountCache;
+
+    /**
+     * 게시글 수 캐시 검증
+     * 캐시된 게시판별 게시글 수를 DB 기준으로 다시 적재
+     */
+    @Scheduled(cron = "${scheduler.post-count.cron}")
+    public void verifyPostCount() {
+        int diffCnt = postCountCache.reload();
+        if (diffCnt > 0) {
+            log.warn("게시글 수 캐시 보정 완료 - 보정된 게시판 수: {}", diffCnt);
+        }
+    }
+
+}
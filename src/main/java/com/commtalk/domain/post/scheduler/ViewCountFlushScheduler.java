@@ -0,0 +1,49 @@
+package com.commtalk.domain.post.scheduler;
+
+import com.commtalk.domain.post.cache.ViewCountBuffer;
+import com.commtalk.domain.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostRepository postRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 게시글 조회수 반영
+     * 버퍼에 누적된 조회수를 주기적으로 DB 에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${scheduler.view-count.flush-delay}")
+    public synchronized void flushViewCount() {
+        Map<Long, Long> deltas = viewCountBuffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 배치 전체를 한 트랜잭션으로 반영해 일부만 반영된 채 실패하지 않도록 함
+            transactionTemplate.executeWithoutResult(status -> postRepo.addViewCounts(deltas));
+        } catch (RuntimeException e) {
+            deltas.forEach(viewCountBuffer::add); // 실패 시 롤백되었으므로 다음 주기에 다시 반영
+            log.error("게시글 조회수 반영 실패 - 게시글 수: {}", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        // 종료 전 남은 조회수 반영
+        flushViewCount();
+    }
+
+}
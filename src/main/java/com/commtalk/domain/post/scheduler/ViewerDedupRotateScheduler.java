@@ -0,0 +1,23 @@
+package com.commtalk.domain.post.scheduler;
+
+import com.commtalk.domain.post.cache.ViewerDedupFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ViewerDedupRotateScheduler {
+
+    private final ViewerDedupFilter viewerDedupFilter;
+
+    /**
+     * 게시글 중복 조회 필터 초기화
+     * 자정마다 새 필터로 교체해 하루 단위로 조회자를 구분
+     */
+    @Scheduled(cron = "${scheduler.viewer-dedup.cron}")
+    public void rotateViewerDedupFilter() {
+        viewerDedupFilter.rotate();
+    }
+
+}
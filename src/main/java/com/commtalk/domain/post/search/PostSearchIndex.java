@@ -0,0 +1,230 @@
+package com.commtalk.domain.post.search;
+
+import com.commtalk.domain.post.repository.PostRepository;
+import com.commtalk.domain.post.repository.projection.PostSearchDocument;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 검색 역색인 (제목 + 내용)
+ * 시작 시 삭제되지 않은 게시글로 색인을 만들고, 게시글 생성/수정/삭제 시 함께 갱신
+ * 게시판, 삭제 여부 조건과 최근 수정 일시 정렬을 색인에서 처리하고 DB 는 결과 페이지의 게시글만 조회
+ * bigram 교집합은 후보만 찾으므로, 정규화한 제목/내용을 함께 보관해 키워드 전체가 그대로 포함된 게시글만 결과로 사용
+ * (기존 LIKE '%키워드%' 검색과 같은 의미)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private final PostRepository postRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] boardIds = new long[1024];
+    private long[] updatedAts = new long[1024];
+    private String[] titles = new String[1024];
+    private String[] contents = new String[1024];
+
+    public record SearchResult(List<Long> postIds, int totalCount) {
+    }
+
+    @PostConstruct
+    public void build() {
+        // 게시글을 한 행씩 읽어 색인 (전체 게시글을 메모리에 올리지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<PostSearchDocument> documents = postRepo.streamSearchDocuments(false)) {
+                documents.forEach(doc -> add(doc.getPostId(), doc.getBoardId(), doc.getTitle(), doc.getContent(), doc.getUpdatedAt()));
+            }
+        });
+        log.info("게시글 검색 색인 생성 완료 - 게시글 수: {}, 검색어 수: {}", live.cardinality(), postings.size());
+    }
+
+    public void add(Long postId, Long boardId, String title, String content, Timestamp updatedAt) {
+        int id = Math.toIntExact(postId);
+        Set<String> terms = tokenize(title, content);
+
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(id);
+            boardIds[id] = boardId;
+            updatedAts[id] = updatedAt.getTime();
+            titles[id] = PostSearchTokenizer.normalize(title);
+            contents[id] = PostSearchTokenizer.normalize(content);
+            for (String term : terms) {
+                postings.computeIfAbsent(term, t -> new PostingList()).add(id);
+            }
+            live.set(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목, 내용 수정 반영 (사라진 검색어에서는 제거하고 새 검색어에만 추가)
+     */
+    public void update(Long postId, String oldTitle, String oldContent, String title, String content, Timestamp updatedAt) {
+        int id = Math.toIntExact(postId);
+        Set<String> oldTerms = tokenize(oldTitle, oldContent);
+        Set<String> newTerms = tokenize(title, content);
+
+        lock.writeLock().lock();
+        try {
+            if (!live.get(id)) {
+                return;
+            }
+            for (String term : oldTerms) {
+                if (!newTerms.contains(term)) {
+                    PostingList postingList = postings.get(term);
+                    if (postingList != null) {
+                        postingList.remove(id);
+                        if (postingList.size() == 0) {
+                            postings.remove(term);
+                        }
+                    }
+                }
+            }
+            for (String term : newTerms) {
+                if (!oldTerms.contains(term)) {
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(id);
+                }
+            }
+            updatedAts[id] = updatedAt.getTime();
+            titles[id] = PostSearchTokenizer.normalize(title);
+            contents[id] = PostSearchTokenizer.normalize(content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 반영 (검색어 목록은 그대로 두고 삭제 여부로 걸러냄)
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            int id = Math.toIntExact(postId);
+            live.clear(id);
+            titles[id] = null;
+            contents[id] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 또는 내용에 키워드가 그대로 포함된 게시글을 최근 수정 순으로 조회 (영문 대소문자 구분 없음)
+     * @param boardId 게시판 식별자 (null 이면 전체 게시판)
+     * @return 요청한 범위의 게시글 식별자 목록과 전체 개수
+     */
+    public SearchResult search(String keyword, Long boardId, int offset, int limit) {
+        Set<String> terms = PostSearchTokenizer.tokenizeQuery(keyword);
+        String normalizedKeyword = PostSearchTokenizer.normalize(keyword);
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            // 게시글 수가 적은 검색어부터 교집합
+            List<PostingList> postingLists = new ArrayList<>();
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    return new SearchResult(List.of(), 0);
+                }
+                postingLists.add(postingList);
+            }
+            postingLists.sort(Comparator.comparingInt(PostingList::size));
+
+            int[] candidates = postingLists.get(0).toArray();
+            for (int i = 1; i < postingLists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, postingLists.get(i).toArray());
+            }
+
+            // 게시판, 삭제 여부와 키워드 포함 여부로 거른 뒤 최근 수정 순 상위 offset + limit 개만 유지
+            Comparator<Integer> latestFirst = Comparator.<Integer>comparingLong(id -> updatedAts[id]).thenComparingInt(id -> id);
+            PriorityQueue<Integer> top = new PriorityQueue<>(latestFirst);
+            int keep = offset + limit;
+            int totalCount = 0;
+            for (int id : candidates) {
+                if (!live.get(id) || (boardId != null && boardIds[id] != boardId)) {
+                    continue;
+                }
+                // bigram 이 모두 있어도 떨어져 있거나 다른 단어에 있을 수 있으므로 부분 문자열로 확인
+                if (!titles[id].contains(normalizedKeyword) && !contents[id].contains(normalizedKeyword)) {
+                    continue;
+                }
+                totalCount++;
+                top.offer(id);
+                if (top.size() > keep) {
+                    top.poll();
+                }
+            }
+
+            List<Integer> sorted = new ArrayList<>(top);
+            sorted.sort(latestFirst.reversed());
+            List<Long> postIds = sorted.stream()
+                    .skip(offset)
+                    .map(Integer::longValue)
+                    .toList();
+            return new SearchResult(postIds, totalCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<String> tokenize(String title, String content) {
+        Set<String> terms = new HashSet<>(PostSearchTokenizer.tokenize(title));
+        terms.addAll(PostSearchTokenizer.tokenize(content));
+        return terms;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= boardIds.length) {
+            int newLength = Math.max(id + 1, boardIds.length * 2);
+            boardIds = Arrays.copyOf(boardIds, newLength);
+            updatedAts = Arrays.copyOf(updatedAts, newLength);
+            titles = Arrays.copyOf(titles, newLength);
+            contents = Arrays.copyOf(contents, newLength);
+        }
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+}
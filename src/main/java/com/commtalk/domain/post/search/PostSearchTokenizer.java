@@ -0,0 +1,77 @@
+package com.commtalk.domain.post.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 검색어 분리기 (문자 bigram)
+ * 한글은 형태소 분석 없이 음절 단위 bigram 으로 나누어 조사가 붙은 단어도 검색되도록 함 (예: "게시판에" -> "게시", "시판", "판에")
+ * 문자/숫자가 아닌 문자를 기준으로 단어를 나누고, 영문은 소문자로 통일
+ */
+public class PostSearchTokenizer {
+
+    /**
+     * 색인용 분리 (모든 음절과 bigram, 한 글자 검색어도 찾을 수 있도록 음절도 색인)
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (int[] word : splitWords(text)) {
+            for (int i = 0; i < word.length; i++) {
+                terms.add(new String(word, i, 1));
+                if (i + 1 < word.length) {
+                    terms.add(new String(word, i, 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어용 분리 (두 글자 이상 단어는 bigram, 한 글자 단어는 음절)
+     */
+    public static Set<String> tokenizeQuery(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (int[] word : splitWords(keyword)) {
+            if (word.length == 1) {
+                terms.add(new String(word, 0, 1));
+            }
+            for (int i = 0; i + 1 < word.length; i++) {
+                terms.add(new String(word, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 부분 문자열 비교용 정규화 (영문 소문자 통일)
+     */
+    public static String normalize(String text) {
+        return (text == null) ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<int[]> splitWords(String text) {
+        List<int[]> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        int[] codePoints = normalize(text).codePoints().toArray();
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                int[] word = new int[i - start];
+                System.arraycopy(codePoints, start, word, 0, word.length);
+                words.add(word);
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+}
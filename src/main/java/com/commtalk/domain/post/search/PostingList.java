@@ -0,0 +1,96 @@
+package com.commtalk.domain.post.search;
+
+import java.util.Arrays;
+
+/**
+ * 검색어별 게시글 식별자 목록 (압축 정수 배열)
+ * 오름차순 식별자의 차이를 가변 길이 정수(7비트 단위)로 저장해 식별자 하나에 보통 1~2바이트만 사용
+ * 새 게시글은 식별자가 가장 크므로 끝에 덧붙이고, 중간 삽입/삭제는 전체를 다시 압축 (게시글 수정 시에만 발생)
+ */
+class PostingList {
+
+    private byte[] data = new byte[4];
+    private int length;
+    private int size;
+    private int last;
+
+    int size() {
+        return size;
+    }
+
+    void add(int postId) {
+        if (size == 0 || postId > last) {
+            append(postId - last);
+            last = postId;
+            size++;
+            return;
+        }
+
+        int[] ids = toArray();
+        int idx = Arrays.binarySearch(ids, postId);
+        if (idx >= 0) {
+            return;
+        }
+        int insertAt = -idx - 1;
+        int[] newIds = new int[ids.length + 1];
+        System.arraycopy(ids, 0, newIds, 0, insertAt);
+        newIds[insertAt] = postId;
+        System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+        rebuild(newIds);
+    }
+
+    void remove(int postId) {
+        int[] ids = toArray();
+        int idx = Arrays.binarySearch(ids, postId);
+        if (idx < 0) {
+            return;
+        }
+        int[] newIds = new int[ids.length - 1];
+        System.arraycopy(ids, 0, newIds, 0, idx);
+        System.arraycopy(ids, idx + 1, newIds, idx, ids.length - idx - 1);
+        rebuild(newIds);
+    }
+
+    int[] toArray() {
+        int[] ids = new int[size];
+        int pos = 0;
+        int prev = 0;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            prev += delta;
+            ids[i] = prev;
+        }
+        return ids;
+    }
+
+    private void rebuild(int[] ids) {
+        data = new byte[Math.max(4, ids.length * 2)];
+        length = 0;
+        size = 0;
+        last = 0;
+        for (int id : ids) {
+            append(id - last);
+            last = id;
+            size++;
+        }
+    }
+
+    private void append(int delta) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        while ((delta & ~0x7F) != 0) {
+            data[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+    }
+
+}
@@ -1,21 +1,20 @@
 package com.commtalk.domain.post.service;
 
+import com.commtalk.domain.post.dto.CommentPageDTO;
+import com.commtalk.domain.post.dto.ReplyPageDTO;
 import com.commtalk.domain.post.dto.request.CommentCreateRequest;
-import com.commtalk.domain.post.dto.ParentCommentDTO;
 import com.commtalk.domain.post.dto.request.CommentUpdateRequest;
-import com.commtalk.domain.post.entity.Comment;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public interface CommentService {
 
-    List<ParentCommentDTO> getCommentsByPost(Long postId);
+    CommentPageDTO getCommentsByPost(Long postId, Long memberId, String cursor, int size);
 
-    List<ParentCommentDTO> getCommentsByPost(Long postId, Long memberId);
+    ReplyPageDTO getReplies(Long postId, Long commentId, Long memberId, String cursor, int size);
 
-    long getCommentCountByPost(Long postId);
-
-    List<Long> getPostIdsByCommenter(Long memberId);
+    void exportComments(Long postId, OutputStream out) throws IOException;
 
     void createComment(Long memberId, Long postId, CommentCreateRequest createReq);
 
@@ -4,20 +4,12 @@ import com.commtalk.domain.post.dto.MemberLikeDTO;
 import com.commtalk.domain.post.dto.MemberScrapDTO;
 import com.commtalk.domain.post.entity.ActivityType;
 
-import java.util.List;
-
 public interface MemberActivityService {
 
-    boolean isLikeOrScrapPost(Long memberId, Long postId, ActivityType.TypeName typeName);
-
-    List<Long> getPostIdsByLikeOrScrap(Long memberId, ActivityType.TypeName typeName);
-
-    MemberLikeDTO likePost(Long memberId, Long postId, int signNum);
-
-    MemberScrapDTO scrapPost(Long memberId, Long postId, int signNum);
+    MemberLikeDTO likePost(Long memberId, Long postId);
 
-    boolean isLikeComment(Long memberId, Long commentId);
+    MemberScrapDTO scrapPost(Long memberId, Long postId);
 
-    MemberLikeDTO likeComment(Long memberId, Long commentId, int signNum);
+    MemberLikeDTO likeComment(Long memberId, Long commentId);
 
 }
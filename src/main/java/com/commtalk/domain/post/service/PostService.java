@@ -9,28 +9,55 @@ import com.commtalk.domain.post.entity.ActivityType;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PostService {
 
     PostPageDTO getPosts(Pageable pageable);
 
+    PostPageDTO getPosts(String cursor, int size);
+
     PostPageDTO getPostsByBoard(Long boardId, Pageable pageable);
 
+    PostPageDTO getPostsByBoard(Long boardId, String cursor, int size);
+
     PostPageDTO getPostsByKeyword(String keyword, Pageable pageable);
 
     PostPageDTO getPostsByBoardAndKeyword(Long boardId, String keyword, Pageable pageable);
 
     PostPageDTO getPostsByAuthor(Long memberId, Pageable pageable);
 
-    PostPageDTO getPostsByIds(List<Long> postIds, Pageable pageable);
+    PostPageDTO getPostsByCommenter(Long memberId, Pageable pageable);
+
+    PostPageDTO getPostsByCommenter(Long memberId, String cursor, int size);
+
+    PostPageDTO getPostsByActivity(Long memberId, ActivityType.TypeName typeName, Pageable pageable);
+
+    PostPageDTO getPostsByActivity(Long memberId, ActivityType.TypeName typeName, String cursor, int size);
+
+    PostPageDTO getPostSlice(Pageable pageable);
+
+    PostPageDTO getPostSliceByBoard(Long boardId, Pageable pageable);
+
+    PostPageDTO getPostSliceByKeyword(String keyword, Pageable pageable);
+
+    PostPageDTO getPostSliceByBoardAndKeyword(Long boardId, String keyword, Pageable pageable);
+
+    PostPageDTO getPostSliceByAuthor(Long memberId, Pageable pageable);
+
+    PostPageDTO getPostSliceByCommenter(Long memberId, Pageable pageable);
+
+    PostPageDTO getPostSliceByActivity(Long memberId, ActivityType.TypeName typeName, Pageable pageable);
+
+    void setActivityFlags(Long memberId, PostPageDTO postPageDto);
 
-    PostDTO getPost(Long postId);
+    PostDTO getPost(Long postId, String clientFingerprint);
 
     PostDTO getPost(Long postId, Long memberId);
 
     void isExistsPost(Long postId);
 
-    List<PostPreviewDTO> getPostPreviewsByBoard(Long boardId, int size);
+    Map<Long, List<PostPreviewDTO>> getPostPreviewsByBoards(List<Long> boardIds, int size);
 
     List<PostPreviewDTO> getPostPreviewsTop3ByViews();
 
@@ -40,6 +67,6 @@ public interface PostService {
 
     void deletePost(Long memberId, Long postId);
 
-    int countPostByBoard(Long boardId);
+    long countPostByBoard(Long boardId);
 
 }
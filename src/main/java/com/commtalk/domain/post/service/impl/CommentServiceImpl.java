@@ -1,10 +1,16 @@
 package com.commtalk.domain.post.service.impl;
 
+import com.commtalk.common.dto.PageCursor;
 import com.commtalk.common.exception.EntityNotFoundException;
+import com.commtalk.common.util.TransactionUtils;
 import com.commtalk.domain.member.entity.Member;
-import com.commtalk.domain.post.dto.ChildCommentDTO;
-import com.commtalk.domain.post.dto.request.CommentCreateRequest;
+import com.commtalk.domain.post.cache.CommentThreadCache;
+import com.commtalk.domain.post.cache.MemberActivityBitmapCache;
+import com.commtalk.domain.post.dto.CommentExportDTO;
+import com.commtalk.domain.post.dto.CommentPageDTO;
 import com.commtalk.domain.post.dto.ParentCommentDTO;
+import com.commtalk.domain.post.dto.ReplyPageDTO;
+import com.commtalk.domain.post.dto.request.CommentCreateRequest;
 import com.commtalk.domain.post.dto.request.CommentUpdateRequest;
 import com.commtalk.domain.post.entity.ActivityType;
 import com.commtalk.domain.post.entity.Comment;
@@ -12,79 +18,96 @@ import com.commtalk.domain.post.entity.Post;
 import com.commtalk.domain.post.exception.CommentIdNullException;
 import com.commtalk.common.exception.PermissionException;
 import com.commtalk.domain.post.repository.CommentRepository;
+import com.commtalk.domain.post.repository.PostRepository;
+import com.commtalk.domain.post.repository.projection.CommentExportProjection;
+import com.commtalk.domain.post.repository.projection.CommentProjection;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.commtalk.domain.post.service.CommentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepo;
+    private final PostRepository postRepo;
+    private final MemberActivityBitmapCache activityBitmapCache;
+    private final CommentThreadCache commentThreadCache;
+    private final ObjectMapper objectMapper;
 
     @Override
-    public List<ParentCommentDTO> getCommentsByPost(Long postId) {
-        List<Comment> commentList = commentRepo.findByPostIdAndDeletedYN(postId, false);
-        Map<Long, ParentCommentDTO> commentDtoMap = new HashMap<>();
-
-        for (Comment comment : commentList) {
-            if (comment.getParent() == null) {
-                commentDtoMap.put(comment.getId(), ParentCommentDTO.from(comment, false));
-            } else {
-                ParentCommentDTO parentCommentDto = commentDtoMap.get(comment.getParent().getId());
-                if (parentCommentDto != null) {
-                    parentCommentDto.addChildComment(ChildCommentDTO.from(comment, false));
-                    commentDtoMap.put(comment.getParent().getId(), parentCommentDto);
-                }
-            }
+    @Transactional(readOnly = true)
+    public CommentPageDTO getCommentsByPost(Long postId, Long memberId, String cursor, int size) {
+        // 커서 이후의 댓글 목록을 작성 순으로 조회 (다음 페이지 확인을 위해 size + 1 개 조회)
+        Pageable limit = PageRequest.of(0, size + 1);
+        if (cursor != null) {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            List<CommentProjection> commentList = commentRepo.findTopLevelListByCursor(postId, pageCursor.getTimestamp(),
+                    pageCursor.getId(), false, limit);
+            return CommentPageDTO.of(commentList, size, getLikedIds(memberId, commentList));
         }
 
-        return commentDtoMap.values().stream()
-                .peek(commentDto -> commentDto.setChildCount((commentDto.getChildren() != null) ? commentDto.getChildren().size() : 0))
-                .toList();
-    }
-
-    @Override
-    public List<ParentCommentDTO> getCommentsByPost(Long postId, Long memberId) {
-        List<Object[]> commentList = commentRepo.findByPostIdAndDeletedYN(postId, false, memberId, ActivityType.TypeName.COMMENT_LIKE);
-        Map<Long, ParentCommentDTO> commentDtoMap = new HashMap<>();
-
-        for (Object[] commentObj : commentList) {
-            Comment comment = (Comment) commentObj[0];
-            boolean likeYN = commentObj[1] != null;
-
-            if (comment.getParent() == null) {
-                commentDtoMap.put(comment.getId(), ParentCommentDTO.from(comment, likeYN));
-            } else {
-                ParentCommentDTO parentCommentDto = commentDtoMap.get(comment.getParent().getId());
-                if (parentCommentDto != null) {
-                    parentCommentDto.addChildComment(ChildCommentDTO.from(comment, likeYN));
-                    commentDtoMap.put(comment.getParent().getId(), parentCommentDto);
-                }
-            }
+        // 첫 페이지는 게시글별로 캐시하고, 로그인한 경우 좋아요 여부만 덧씌움
+        CommentPageDTO commentPageDto = commentThreadCache.get(postId, size);
+        if (commentPageDto == null) {
+            long generation = commentThreadCache.getGeneration();
+            List<CommentProjection> commentList = commentRepo.findTopLevelList(postId, false, limit);
+            commentPageDto = CommentPageDTO.of(commentList, size, Set.of());
+            commentThreadCache.put(postId, size, commentPageDto, generation);
         }
-
-        return commentDtoMap.values().stream()
-                .peek(commentDto -> commentDto.setChildCount((commentDto.getChildren() != null) ? commentDto.getChildren().size() : 0))
-                .toList();
+        if (memberId == null || commentPageDto.getComments().isEmpty()) {
+            return commentPageDto;
+        }
+        List<Long> commentIds = commentPageDto.getComments().stream().map(ParentCommentDTO::getCommentId).toList();
+        return commentPageDto.withLikedIds(activityBitmapCache.filter(memberId, ActivityType.TypeName.COMMENT_LIKE, commentIds));
     }
 
     @Override
-    public long getCommentCountByPost(Long postId) {
-        return commentRepo.countByPostIdAndDeletedYN(postId, false);
+    @Transactional(readOnly = true)
+    public ReplyPageDTO getReplies(Long postId, Long commentId, Long memberId, String cursor, int size) {
+        // 커서 이후의 대댓글 목록을 작성 순으로 조회 (다음 페이지 확인을 위해 size + 1 개 조회)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CommentProjection> replyList;
+        if (cursor == null) {
+            replyList = commentRepo.findReplyList(postId, commentId, false, limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            replyList = commentRepo.findReplyListByCursor(postId, commentId, pageCursor.getTimestamp(), pageCursor.getId(), false, limit);
+        }
+        return ReplyPageDTO.of(replyList, size, getLikedIds(memberId, replyList));
     }
 
     @Override
-    public List<Long> getPostIdsByCommenter(Long memberId) {
-        return commentRepo.findPostIdsByWriterId(memberId, false);
+    @Transactional(readOnly = true)
+    public void exportComments(Long postId, OutputStream out) throws IOException {
+        // 한 행씩 읽어 바로 NDJSON 한 줄로 쓰므로 댓글 전체를 메모리에 올리지 않음
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        BufferedOutputStream bufferedOut = new BufferedOutputStream(out);
+        try (Stream<CommentExportProjection> comments = commentRepo.streamAllByPostId(postId)) {
+            Iterator<CommentExportProjection> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                bufferedOut.write(objectMapper.writeValueAsBytes(CommentExportDTO.of(iterator.next(), sdf)));
+                bufferedOut.write('\n');
+            }
+        }
+        bufferedOut.flush();
     }
 
     @Override
+    @Transactional
     public void createComment(Long memberId, Long postId, CommentCreateRequest createReq) {
         // 댓글 생성
         Member member = Member.builder().id(memberId).build();
@@ -94,6 +117,9 @@ public class CommentServiceImpl implements CommentService {
         if (createReq.getParentId() > 0) {
             Comment parent = commentRepo.findById(createReq.getParentId())
                     .orElseThrow(() -> new EntityNotFoundException("상위 댓글을 찾을 수 없습니다."));
+            if (parent.getParent() != null) {
+                parent = parent.getParent(); // 대댓글에 단 답글은 최상위 댓글의 대댓글로 저장
+            }
             comment.setParent(parent);
         }
 
@@ -101,6 +127,17 @@ public class CommentServiceImpl implements CommentService {
         if (newComment.getId() == null) {
             throw new CommentIdNullException("게시글 댓글 생성에 실패했습니다.");
         }
+
+        // 상위 댓글의 대댓글 수 증가
+        if (comment.getParent() != null) {
+            commentRepo.updateChildCount(comment.getParent().getId(), 1);
+        }
+
+        // 게시글 댓글 수 증가
+        postRepo.updateCommentCount(postId, 1);
+
+        // 커밋 후 댓글 캐시 제거
+        TransactionUtils.afterCommit(() -> commentThreadCache.evict(postId));
     }
 
     @Override
@@ -119,6 +156,10 @@ public class CommentServiceImpl implements CommentService {
 
         // 수정된 댓글 저장
         commentRepo.save(comment);
+
+        // 커밋 후 댓글 캐시 제거
+        Long postId = comment.getPost().getId();
+        TransactionUtils.afterCommit(() -> commentThreadCache.evict(postId));
     }
 
     @Override
@@ -126,6 +167,7 @@ public class CommentServiceImpl implements CommentService {
     public void deleteComment(Long memberId, Long commentId) {
         // 댓글 조회
         Comment comment = commentRepo.findById(commentId)
+                .filter(c -> !c.isDeletedYN())
                 .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다."));
         if (!memberId.equals(comment.getWriter().getId())) {
             throw new PermissionException("작성자만 댓글 삭제가 가능합니다.");
@@ -136,6 +178,27 @@ public class CommentServiceImpl implements CommentService {
 
         // 수정된 댓글 저장
         commentRepo.save(comment);
+
+        // 게시글 댓글 수 감소
+        postRepo.updateCommentCount(comment.getPost().getId(), -1);
+
+        // 상위 댓글의 대댓글 수 감소
+        if (comment.getParent() != null) {
+            commentRepo.updateChildCount(comment.getParent().getId(), -1);
+        }
+
+        // 커밋 후 댓글 캐시 제거
+        Long postId = comment.getPost().getId();
+        TransactionUtils.afterCommit(() -> commentThreadCache.evict(postId));
+    }
+
+    private Set<Long> getLikedIds(Long memberId, List<CommentProjection> commentList) {
+        // 비로그인 조회인 경우 좋아요 여부 확인 생략
+        if (memberId == null || commentList.isEmpty()) {
+            return Set.of();
+        }
+        return activityBitmapCache.filter(memberId, ActivityType.TypeName.COMMENT_LIKE,
+                commentList.stream().map(CommentProjection::getCommentId).toList());
     }
 
 }
@@ -1,22 +1,23 @@
 package com.commtalk.domain.post.service.impl;
 
 import com.commtalk.common.exception.EntityNotFoundException;
-import com.commtalk.domain.member.entity.Member;
+import com.commtalk.common.registry.ReferenceDataRegistry;
+import com.commtalk.common.util.TransactionUtils;
+import com.commtalk.domain.post.cache.CommentThreadCache;
+import com.commtalk.domain.post.cache.HotPostDetector;
+import com.commtalk.domain.post.cache.MemberActivityBitmapCache;
 import com.commtalk.domain.post.dto.MemberLikeDTO;
 import com.commtalk.domain.post.dto.MemberScrapDTO;
 import com.commtalk.domain.post.dto.ParentCommentDTO;
 import com.commtalk.domain.post.dto.PostDTO;
 import com.commtalk.domain.post.entity.ActivityType;
-import com.commtalk.domain.post.entity.Comment;
-import com.commtalk.domain.post.entity.MemberActivity;
-import com.commtalk.domain.post.entity.Post;
-import com.commtalk.domain.post.repository.ActivityTypeRepository;
 import com.commtalk.domain.post.repository.CommentRepository;
 import com.commtalk.domain.post.repository.MemberActivityRepository;
 import com.commtalk.domain.post.repository.PostRepository;
 import com.commtalk.domain.post.service.MemberActivityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -28,106 +29,94 @@ public class MemberActivityServiceImpl implements MemberActivityService {
 
     private final PostRepository postRepo;
     private final CommentRepository commentRepo;
-    private final ActivityTypeRepository activityTypeRepo;
     private final MemberActivityRepository activityRepo;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final MemberActivityBitmapCache activityBitmapCache;
+    private final HotPostDetector hotPostDetector;
+    private final CommentThreadCache commentThreadCache;
 
     @Override
-    public boolean isLikeOrScrapPost(Long memberId, Long postId, ActivityType.TypeName typeName) {
-        return activityRepo.existsByMemberIdAndRefIdAndTypeName(memberId, postId, typeName);
-    }
-
-    @Override
-    @Transactional
-    public MemberLikeDTO likePost(Long memberId, Long postId, int signNum) {
-        if (signNum == 1) {
-            // 회원 활동 유형 조회
-            ActivityType activityType = activityTypeRepo.findByName(ActivityType.TypeName.POST_LIKE)
-                    .orElseThrow(() -> new EntityNotFoundException("회원 활동 유형을 찾을 수 없습니다."));
-
-            // 회원 활동 저장
-            Member member = Member.builder().id(memberId).build();
-            MemberActivity activity = MemberActivity.create(activityType, member, postId);
-            activityRepo.save(activity);
+    @Transactional(isolation = Isolation.READ_COMMITTED) // 없는 행을 삭제할 때 갭 잠금을 잡지 않도록 (동시 토글 시 교착 방지)
+    public MemberLikeDTO likePost(Long memberId, Long postId) {
+        // 좋아요 토글 (이미 좋아요한 경우 취소)
+        int signNum = toggleActivity(memberId, postId, ActivityType.TypeName.POST_LIKE);
+
+        if (hotPostDetector.recordLike(postId)) {
+            // 슬롯 저장 전에 게시글 존재 확인 (없는 게시글이 외래 키 위반으로 500 이 되지 않도록)
+            if (!postRepo.existsById(postId)) {
+                throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+            }
+
+            // 인기 게시글은 분산 슬롯에 증감분 누적 (같은 post 행의 잠금 경합 방지, 주기적으로 합산)
+            if (signNum != 0) {
+                postRepo.addLikeShard(postId, hotPostDetector.pickSlot(), signNum);
+            }
         } else {
-            // 회원 활동 삭제
-            activityRepo.deleteByMemberIdAndRefIdAndTypeName(memberId, postId, ActivityType.TypeName.POST_LIKE);
+            // 게시글 좋아요 수 업데이트 (증감 쿼리, 실제로 변경된 활동이 있을 때만)
+            if (signNum != 0 && postRepo.updateLikeCount(postId, signNum) == 0) {
+                throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+            }
         }
 
-        // 게시글 좋아요 수 업데이트
-        Post post = postRepo.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-        post.setLikeCount(post.getLikeCount() + signNum);
-        post.setSkipUpdateAt(true);
-
-        postRepo.save(post);
+        // 인기 게시글에서 벗어났어도 아직 합산되지 않은 슬롯이 남아 있을 수 있으므로 항상 슬롯 합계 포함
+        long likeCount = postRepo.findLikeCountById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."))
+                + postRepo.sumLikeShards(postId);
 
-        return MemberLikeDTO.from(post.getLikeCount(), signNum == 1);
+        return MemberLikeDTO.from(likeCount, signNum >= 0);
     }
 
     @Override
-    @Transactional
-    public MemberScrapDTO scrapPost(Long memberId, Long postId, int signNum) {
-        if (signNum == 1) {
-            // 회원 활동 유형 조회
-            ActivityType activityType = activityTypeRepo.findByName(ActivityType.TypeName.POST_SCRAP)
-                    .orElseThrow(() -> new EntityNotFoundException("회원 활동 유형을 찾을 수 없습니다."));
-
-            // 회원 활동 저장
-            Member member = Member.builder().id(memberId).build();
-            MemberActivity activity = MemberActivity.create(activityType, member, postId);
-            activityRepo.save(activity);
-        } else {
-            // 회원 활동 삭제
-            activityRepo.deleteByMemberIdAndRefIdAndTypeName(memberId, postId, ActivityType.TypeName.POST_SCRAP);
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public MemberScrapDTO scrapPost(Long memberId, Long postId) {
+        // 스크랩 토글 (이미 스크랩한 경우 취소)
+        int signNum = toggleActivity(memberId, postId, ActivityType.TypeName.POST_SCRAP);
+
+        // 게시글 스크랩 수 업데이트 (증감 쿼리, 실제로 변경된 활동이 있을 때만)
+        if (signNum != 0 && postRepo.updateScrapCount(postId, signNum) == 0) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
         }
-
-        // 게시글 좋아요 수 업데이트
-        Post post = postRepo.findById(postId)
+        long scrapCount = postRepo.findScrapCountById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-        post.setScrapCount(post.getScrapCount() + signNum);
-        post.setSkipUpdateAt(true);
-
-        postRepo.save(post);
 
-        return MemberScrapDTO.from(post.getScrapCount(), signNum == 1);
+        return MemberScrapDTO.from(scrapCount, signNum >= 0);
     }
 
     @Override
-    public boolean isLikeComment(Long memberId, Long commentId) {
-        return activityRepo.existsByMemberIdAndRefIdAndTypeName(memberId, commentId, ActivityType.TypeName.COMMENT_LIKE);
-    }
-
-    @Override
-    @Transactional
-    public MemberLikeDTO likeComment(Long memberId, Long commentId, int signNum) {
-        if (signNum == 1) {
-            // 회원 활동 유형 조회
-            ActivityType activityType = activityTypeRepo.findByName(ActivityType.TypeName.COMMENT_LIKE)
-                    .orElseThrow(() -> new EntityNotFoundException("회원 활동 유형을 찾을 수 없습니다."));
-
-            // 회원 활동 저장
-            Member member = Member.builder().id(memberId).build();
-            MemberActivity activity = MemberActivity.create(activityType, member, commentId);
-            activityRepo.save(activity);
-        } else {
-            // 회원 활동 삭제
-            activityRepo.deleteByMemberIdAndRefIdAndTypeName(memberId, commentId, ActivityType.TypeName.COMMENT_LIKE);
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public MemberLikeDTO likeComment(Long memberId, Long commentId) {
+        // 좋아요 토글 (이미 좋아요한 경우 취소)
+        int signNum = toggleActivity(memberId, commentId, ActivityType.TypeName.COMMENT_LIKE);
+
+        // 댓글 좋아요 수 업데이트 (증감 쿼리, 실제로 변경된 활동이 있을 때만)
+        if (signNum != 0 && commentRepo.updateLikeCount(commentId, signNum) == 0) {
+            throw new EntityNotFoundException("댓글을 찾을 수 없습니다.");
         }
-
-        // 댓글 좋아요 수 업데이트
-        Comment comment = commentRepo.findById(commentId)
+        long likeCount = commentRepo.findLikeCountById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다."));
-        comment.setLikeCount(comment.getLikeCount() + signNum);
-        comment.setSkipUpdateAt(true);
 
-        commentRepo.save(comment);
+        // 커밋 후 댓글이 속한 게시글의 캐시 페이지 제거 (커밋 순서와 무관하게 다음 조회 시 최신 값으로 다시 적재)
+        if (signNum != 0) {
+            Long postId = commentRepo.findPostIdById(commentId)
+                    .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다."));
+            TransactionUtils.afterCommit(() -> commentThreadCache.evict(postId));
+        }
 
-        return MemberLikeDTO.from(comment.getLikeCount(), signNum == 1);
+        return MemberLikeDTO.from(likeCount, signNum >= 0);
     }
 
-    @Override
-    public List<Long> getPostIdsByLikeOrScrap(Long memberId, ActivityType.TypeName typeName) {
-        return activityRepo.getRefIdsByMemberIdAndTypeName(memberId, typeName);
+    private int toggleActivity(Long memberId, Long refId, ActivityType.TypeName typeName) {
+        // 먼저 삭제하고, 삭제된 행이 없을 때만 저장 (유니크 키로 중복 저장 방지)
+        // 실제로 변경된 행 수만큼 반환 (저장 시 1, 삭제 시 -1, 동시 요청이 먼저 저장해 변경이 없으면 0)
+        Long activityTypeId = referenceDataRegistry.getActivityTypeId(typeName);
+        int deleted = activityRepo.delete(memberId, refId, activityTypeId);
+        int inserted = (deleted == 0) ? activityRepo.insertIgnore(memberId, refId, activityTypeId) : 0;
+        int delta = inserted - deleted;
+
+        // 커밋 후 회원 활동 캐시 갱신
+        boolean active = delta >= 0;
+        TransactionUtils.afterCommit(() -> activityBitmapCache.update(memberId, typeName, refId, active));
+        return delta;
     }
 
 }
@@ -1,30 +1,49 @@
 package com.commtalk.domain.post.service.impl;
 
+import com.commtalk.common.dto.PageCursor;
 import com.commtalk.common.exception.EntityNotFoundException;
 import com.commtalk.common.exception.PermissionException;
+import com.commtalk.common.util.TransactionUtils;
+import com.commtalk.domain.post.cache.MemberActivityBitmapCache;
+import com.commtalk.domain.post.cache.PostCountCache;
+import com.commtalk.domain.post.cache.ViewCountBuffer;
+import com.commtalk.domain.post.cache.ViewerDedupFilter;
 import com.commtalk.domain.post.dto.PostDTO;
 import com.commtalk.domain.post.dto.PostPreviewDTO;
+import com.commtalk.domain.post.dto.PostSimpleDTO;
 import com.commtalk.domain.post.dto.request.PostCreateRequest;
 import com.commtalk.domain.post.dto.PostPageDTO;
 import com.commtalk.domain.board.entity.Board;
 import com.commtalk.domain.post.dto.request.PostUpdateRequest;
 import com.commtalk.domain.post.entity.*;
 import com.commtalk.domain.post.exception.PostIdNullException;
+import com.commtalk.domain.post.policy.PostPreviewPolicy;
 import com.commtalk.domain.post.repository.ActivityTypeRepository;
 import com.commtalk.domain.post.repository.MemberActivityRepository;
 import com.commtalk.domain.post.repository.PostHashtagRepository;
 import com.commtalk.domain.post.repository.PostRepository;
+import com.commtalk.domain.post.repository.projection.PostActivityProjection;
+import com.commtalk.domain.post.repository.projection.PostSimpleProjection;
+import com.commtalk.domain.post.search.PostSearchIndex;
 import com.commtalk.domain.post.service.PostService;
 import com.commtalk.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,84 +52,225 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepo;
     private final PostHashtagRepository hashtagRepo;
     private final PostHashtagRepository postHashtagRepo;
+    private final PostCountCache postCountCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewerDedupFilter viewerDedupFilter;
+    private final PostPreviewPolicy postPreviewPolicy;
+    private final MemberActivityBitmapCache activityBitmapCache;
+    private final PostSearchIndex postSearchIndex;
 
     @Override
     public PostPageDTO getPosts(Pageable pageable) {
-        // 페이지에 해당하는 게시글 목록 조회
-        Page<Post> postPage = postRepo.findByDeletedYNOrderByUpdatedAtDesc(false, pageable);
-        return PostPageDTO.of(postPage);
+        // 페이지에 해당하는 게시글 목록 조회 (전체 개수는 캐시에서 조회)
+        List<PostSimpleProjection> postList = postRepo.findSimpleList(false, pageable);
+        Page<PostSimpleProjection> postPage = new PageImpl<>(postList, pageable, postCountCache.getTotalCount());
+        return PostPageDTO.of(postPage, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPosts(String cursor, int size) {
+        // 커서 이후의 게시글 목록 조회 (다음 페이지 확인을 위해 size + 1 개 조회)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostSimpleProjection> postList;
+        if (cursor == null) {
+            postList = postRepo.findSimpleList(false, limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            postList = postRepo.findSimpleListByCursor(pageCursor.getTimestamp(), pageCursor.getId(), false, limit);
+        }
+        return PostPageDTO.ofCursor(postList, size, postPreviewPolicy.getPreviewLength());
     }
 
     @Override
     public PostPageDTO getPostsByBoard(Long boardId, Pageable pageable) {
-        // 페이지에 해당하는 게시판 게시글 목록 조회
-        Page<Post> postPage = postRepo.findByBoardIdAndDeletedYNOrderByUpdatedAtDesc(boardId, false, pageable);
-        return PostPageDTO.of(postPage);
+        // 페이지에 해당하는 게시판 게시글 목록 조회 (전체 개수는 캐시에서 조회)
+        List<PostSimpleProjection> postList = postRepo.findSimpleListByBoardId(boardId, false, pageable);
+        Page<PostSimpleProjection> postPage = new PageImpl<>(postList, pageable, postCountCache.getCount(boardId));
+        return PostPageDTO.of(postPage, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostsByBoard(Long boardId, String cursor, int size) {
+        // 커서 이후의 게시판 게시글 목록 조회 (다음 페이지 확인을 위해 size + 1 개 조회)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostSimpleProjection> postList;
+        if (cursor == null) {
+            postList = postRepo.findSimpleListByBoardId(boardId, false, limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            postList = postRepo.findSimpleListByBoardIdAndCursor(boardId, pageCursor.getTimestamp(), pageCursor.getId(), false, limit);
+        }
+        return PostPageDTO.ofCursor(postList, size, postPreviewPolicy.getPreviewLength());
     }
 
     @Override
     public PostPageDTO getPostsByKeyword(String keyword, Pageable pageable) {
-        // 제목 또는 내용에 키워드가 포함되는 게시글 목록 조회
-        Page<Post> postPage = postRepo.findByTitleContainingOrContentContainingAndDeletedYNOrderByUpdatedAtDesc(keyword, keyword, false, pageable);
-        return PostPageDTO.of(postPage);
+        // 검색 색인에서 제목 또는 내용에 키워드가 포함되는 게시글을 찾은 후 해당 페이지의 게시글만 조회
+        PostSearchIndex.SearchResult result = postSearchIndex.search(keyword, null, (int) pageable.getOffset(), pageable.getPageSize());
+        Page<PostSimpleProjection> postPage = new PageImpl<>(findSimpleListInOrder(result.postIds()), pageable, result.totalCount());
+        return PostPageDTO.of(postPage, postPreviewPolicy.getPreviewLength());
     }
 
     @Override
     public PostPageDTO getPostsByBoardAndKeyword(Long boardId, String keyword, Pageable pageable) {
-        // 제목 또는 내용에 키워드가 포함되는 게시판 게시글 목록 조회
-        Page<Post> postPage = postRepo.findByBoardIdAndTitleContainingOrContentContainingAndDeletedYNOrderByUpdatedAtDesc(boardId, keyword, keyword, false, pageable);
-        return PostPageDTO.of(postPage);
+        // 검색 색인에서 제목 또는 내용에 키워드가 포함되는 게시판 게시글을 찾은 후 해당 페이지의 게시글만 조회
+        PostSearchIndex.SearchResult result = postSearchIndex.search(keyword, boardId, (int) pageable.getOffset(), pageable.getPageSize());
+        Page<PostSimpleProjection> postPage = new PageImpl<>(findSimpleListInOrder(result.postIds()), pageable, result.totalCount());
+        return PostPageDTO.of(postPage, postPreviewPolicy.getPreviewLength());
     }
 
     @Override
     public PostPageDTO getPostsByAuthor(Long memberId, Pageable pageable) {
         // 회원이 작성한 게시글 목록 조회
-        Page<Post> postPage = postRepo.findByAuthorIdAndDeletedYNOrderByUpdatedAtDesc(memberId, false, pageable);
-        return PostPageDTO.of(postPage);
+        Page<PostSimpleProjection> postPage = postRepo.findSimplePageByAuthorId(memberId, false, pageable);
+        return PostPageDTO.of(postPage, postPreviewPolicy.getPreviewLength());
     }
 
     @Override
-    public PostPageDTO getPostsByIds(List<Long> postIds, Pageable pageable) {
-        // 특정 postId에 해당하는 게시글 목록 조회
-        Page<Post> postPage = postRepo.findByIdInAndDeletedYNOrderByUpdatedAtDesc(postIds, false, pageable);
-        return PostPageDTO.of(postPage);
+    public PostPageDTO getPostsByCommenter(Long memberId, Pageable pageable) {
+        // 회원이 댓글을 작성한 게시글 목록 조회
+        Page<PostSimpleProjection> postPage = postRepo.findSimplePageByCommenterId(memberId, false, pageable);
+        return PostPageDTO.of(postPage, postPreviewPolicy.getPreviewLength());
     }
 
     @Override
-    @Transactional
-    public PostDTO getPost(Long postId) {
+    public PostPageDTO getPostsByCommenter(Long memberId, String cursor, int size) {
+        // 커서 이후의 회원이 댓글을 작성한 게시글 목록 조회 (다음 페이지 확인을 위해 size + 1 개 조회)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostSimpleProjection> postList;
+        if (cursor == null) {
+            postList = postRepo.findSimpleListByCommenterId(memberId, false, limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            postList = postRepo.findSimpleListByCommenterIdAndCursor(memberId, pageCursor.getTimestamp(), pageCursor.getId(), false, limit);
+        }
+        return PostPageDTO.ofCursor(postList, size, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostsByActivity(Long memberId, ActivityType.TypeName typeName, Pageable pageable) {
+        // 회원이 좋아요 또는 스크랩한 게시글 목록 조회 (활동 일시 순)
+        Page<PostActivityProjection> postPage = postRepo.findActivityPage(memberId, typeName, false, pageable);
+        return PostPageDTO.of(postPage, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostsByActivity(Long memberId, ActivityType.TypeName typeName, String cursor, int size) {
+        // 커서 이후의 회원이 좋아요 또는 스크랩한 게시글 목록 조회 (다음 페이지 확인을 위해 size + 1 개 조회)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostActivityProjection> postList;
+        if (cursor == null) {
+            postList = postRepo.findActivityList(memberId, typeName, false, limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            postList = postRepo.findActivityListByCursor(memberId, typeName, pageCursor.getTimestamp(), pageCursor.getId(), false, limit);
+        }
+        return PostPageDTO.ofActivityCursor(postList, size, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostSlice(Pageable pageable) {
+        // 페이지에 해당하는 게시글 목록 조회 (전체 개수 조회 X)
+        Slice<PostSimpleProjection> postSlice = postRepo.findSimpleSlice(false, pageable);
+        return PostPageDTO.ofSlice(postSlice, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostSliceByBoard(Long boardId, Pageable pageable) {
+        // 페이지에 해당하는 게시판 게시글 목록 조회 (전체 개수 조회 X)
+        Slice<PostSimpleProjection> postSlice = postRepo.findSimpleSliceByBoardId(boardId, false, pageable);
+        return PostPageDTO.ofSlice(postSlice, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostSliceByKeyword(String keyword, Pageable pageable) {
+        // 검색 색인에서 제목 또는 내용에 키워드가 포함되는 게시글 조회 (전체 페이지 수 제외)
+        PostSearchIndex.SearchResult result = postSearchIndex.search(keyword, null, (int) pageable.getOffset(), pageable.getPageSize());
+        Slice<PostSimpleProjection> postSlice = new SliceImpl<>(findSimpleListInOrder(result.postIds()), pageable,
+                result.totalCount() > pageable.getOffset() + pageable.getPageSize());
+        return PostPageDTO.ofSlice(postSlice, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostSliceByBoardAndKeyword(Long boardId, String keyword, Pageable pageable) {
+        // 검색 색인에서 제목 또는 내용에 키워드가 포함되는 게시판 게시글 조회 (전체 페이지 수 제외)
+        PostSearchIndex.SearchResult result = postSearchIndex.search(keyword, boardId, (int) pageable.getOffset(), pageable.getPageSize());
+        Slice<PostSimpleProjection> postSlice = new SliceImpl<>(findSimpleListInOrder(result.postIds()), pageable,
+                result.totalCount() > pageable.getOffset() + pageable.getPageSize());
+        return PostPageDTO.ofSlice(postSlice, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostSliceByAuthor(Long memberId, Pageable pageable) {
+        // 회원이 작성한 게시글 목록 조회 (전체 개수 조회 X)
+        Slice<PostSimpleProjection> postSlice = postRepo.findSimpleSliceByAuthorId(memberId, false, pageable);
+        return PostPageDTO.ofSlice(postSlice, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostSliceByCommenter(Long memberId, Pageable pageable) {
+        // 회원이 댓글을 작성한 게시글 목록 조회 (전체 개수 조회 X)
+        Slice<PostSimpleProjection> postSlice = postRepo.findSimpleSliceByCommenterId(memberId, false, pageable);
+        return PostPageDTO.ofSlice(postSlice, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public PostPageDTO getPostSliceByActivity(Long memberId, ActivityType.TypeName typeName, Pageable pageable) {
+        // 회원이 좋아요 또는 스크랩한 게시글 목록 조회 (활동 일시 순, 전체 개수 조회 X)
+        Slice<PostActivityProjection> postSlice = postRepo.findActivitySlice(memberId, typeName, false, pageable);
+        return PostPageDTO.ofSlice(postSlice, postPreviewPolicy.getPreviewLength());
+    }
+
+    @Override
+    public void setActivityFlags(Long memberId, PostPageDTO postPageDto) {
+        List<PostSimpleDTO> posts = postPageDto.getPosts();
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        // 페이지 단위로 좋아요, 스크랩 여부 일괄 확인
+        List<Long> postIds = posts.stream().map(PostSimpleDTO::getPostId).toList();
+        Set<Long> likedIds = activityBitmapCache.filter(memberId, ActivityType.TypeName.POST_LIKE, postIds);
+        Set<Long> scrappedIds = activityBitmapCache.filter(memberId, ActivityType.TypeName.POST_SCRAP, postIds);
+        for (PostSimpleDTO post : posts) {
+            post.setLikeYN(likedIds.contains(post.getPostId()));
+            post.setScrapYN(scrappedIds.contains(post.getPostId()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostDTO getPost(Long postId, String clientFingerprint) {
         // 게시글 조회
-        Post post = postRepo.findById(postId)
+        Post post = postRepo.findByIdAndDeletedYN(postId, false)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
         List<PostHashtag> hashtags = hashtagRepo.findAllByPostId(postId);
 
-        // 조회수 증가
-        post.setViewCount(post.getViewCount() + 1);
-        post.setSkipUpdateAt(true);
-        postRepo.save(post);
-        return PostDTO.from(post, hashtags, false, false);
+        // 오늘 처음 조회한 경우에만 조회수 증가 (버퍼에 누적 후 일괄 반영)
+        if (viewerDedupFilter.markViewed(postId, clientFingerprint)) {
+            viewCountBuffer.increment(postId);
+        }
+        return PostDTO.from(post, viewCountBuffer.getPending(postId), getPendingLikeCount(postId), hashtags, false, false);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDTO getPost(Long postId, Long memberId) {
         // 게시글 조회
-        Object[] postObj = postRepo.findById(postId, memberId, ActivityType.TypeName.POST_LIKE,
-                        ActivityType.TypeName.POST_SCRAP, false)
+        Post post = postRepo.findByIdAndDeletedYN(postId, false)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-        postObj = (Object[]) postObj[0];
-
         List<PostHashtag> hashtags = hashtagRepo.findAllByPostId(postId);
-        Post post = (Post) postObj[0];
-        boolean likeYN = postObj[1] != null;
-        boolean scrapYN = postObj[2] != null;
 
-        // 조회수 증가
-        post.setViewCount(post.getViewCount() + 1);
-        post.setSkipUpdateAt(true);
-        postRepo.save(post);
+        // 좋아요, 스크랩 여부는 회원 활동 캐시에서 확인
+        boolean likeYN = activityBitmapCache.contains(memberId, ActivityType.TypeName.POST_LIKE, postId);
+        boolean scrapYN = activityBitmapCache.contains(memberId, ActivityType.TypeName.POST_SCRAP, postId);
+
+        // 오늘 처음 조회한 경우에만 조회수 증가 (버퍼에 누적 후 일괄 반영)
+        if (viewerDedupFilter.markViewed(postId, ViewerDedupFilter.memberKey(memberId))) {
+            viewCountBuffer.increment(postId);
+        }
 
-        return PostDTO.from(post, hashtags, likeYN, scrapYN);
+        return PostDTO.from(post, viewCountBuffer.getPending(postId), getPendingLikeCount(postId), hashtags, likeYN, scrapYN);
     }
 
     @Override
@@ -121,20 +281,22 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public List<PostPreviewDTO> getPostPreviewsByBoard(Long boardId, int size) {
-        // size 만큼 게시글 미리보기 목록 조회
-        Page<Post> postPage = postRepo.findByBoardIdAndDeletedYNOrderByViewCountDesc(boardId, false, PageRequest.of(0, size));
-        List<Post> postList = postPage.getContent();
+    public Map<Long, List<PostPreviewDTO>> getPostPreviewsByBoards(List<Long> boardIds, int size) {
+        if (boardIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 게시판별로 조회수 상위 size 개의 게시글 미리보기 목록을 한 번에 조회
+        List<PostSimpleProjection> postList = postRepo.findTopByViewsPerBoard(boardIds, size, false);
 
         return postList.stream()
-                .map(PostPreviewDTO::of)
-                .toList();
+                .collect(Collectors.groupingBy(PostSimpleProjection::getBoardId, LinkedHashMap::new,
+                        Collectors.mapping(PostPreviewDTO::of, Collectors.toList())));
     }
 
     @Override
     public List<PostPreviewDTO> getPostPreviewsTop3ByViews() {
-        Page<Post> postPage = postRepo.findByDeletedYNOrderByViewCountDesc(false, PageRequest.of(0, 3));
-        List<Post> postList = postPage.getContent();
+        List<PostSimpleProjection> postList = postRepo.findSimpleListOrderByViews(false, PageRequest.of(0, 3));
 
         return postList.stream()
                 .map(PostPreviewDTO::of)
@@ -161,6 +323,12 @@ public class PostServiceImpl implements PostService {
             hashtagRepo.save(postHashtag);
         }
 
+        // 커밋 후 게시글 수 캐시 증가, 검색 색인 추가
+        TransactionUtils.afterCommit(() -> {
+            postCountCache.increment(boardId);
+            postSearchIndex.add(newPost.getId(), boardId, newPost.getTitle(), newPost.getContent(), newPost.getUpdatedAt());
+        });
+
         return newPost.getId();
     }
 
@@ -175,8 +343,11 @@ public class PostServiceImpl implements PostService {
         }
 
         // 게시글 수정
+        String oldTitle = post.getTitle();
+        String oldContent = post.getContent();
         post.setTitle(updateReq.getTitle());
         post.setContent(updateReq.getContent());
+        post.setPreviewContent(Post.createPreview(updateReq.getContent()));
         post.setAnonymousYN(updateReq.isAnonymousYN());
         post.setCommentableYN(updateReq.isCommentableYN());
 
@@ -192,6 +363,10 @@ public class PostServiceImpl implements PostService {
             postHashtag = PostHashtag.create(post, hashtag);
             hashtagRepo.save(postHashtag);
         }
+
+        // 커밋 후 검색 색인 갱신
+        TransactionUtils.afterCommit(() -> postSearchIndex.update(postId, oldTitle, oldContent,
+                post.getTitle(), post.getContent(), post.getUpdatedAt()));
     }
 
     @Override
@@ -199,6 +374,7 @@ public class PostServiceImpl implements PostService {
     public void deletePost(Long memberId, Long postId) {
         // 게시글 조회
         Post post = postRepo.findById(postId)
+                .filter(p -> !p.isDeletedYN())
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
         if (!memberId.equals(post.getAuthor().getId())) {
             throw new PermissionException("작성자만 게시글 삭제가 가능합니다.");
@@ -209,11 +385,37 @@ public class PostServiceImpl implements PostService {
 
         // 수정된 게시글 저장
         postRepo.save(post);
+
+        // 커밋 후 게시글 수 캐시 감소, 검색 색인 제외
+        Long boardId = post.getBoard().getId();
+        TransactionUtils.afterCommit(() -> {
+            postCountCache.decrement(boardId);
+            postSearchIndex.remove(postId);
+        });
     }
 
     @Override
-    public int countPostByBoard(Long boardId) {
-        return postRepo.countByBoardIdAndDeletedYN(boardId, false);
+    public long countPostByBoard(Long boardId) {
+        return postCountCache.getCount(boardId);
+    }
+
+    private List<PostSimpleProjection> findSimpleListInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        // IN 조회 결과를 검색 색인의 정렬 순서대로 재배치
+        Map<Long, PostSimpleProjection> postMap = postRepo.findSimpleListByIds(postIds).stream()
+                .collect(Collectors.toMap(PostSimpleProjection::getPostId, post -> post));
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private long getPendingLikeCount(Long postId) {
+        // 인기 게시글에서 벗어난 뒤에도 합산 전까지 슬롯이 남아 있으므로 항상 슬롯 합계 조회
+        return postRepo.sumLikeShards(postId);
     }
 
 }
@@ -0,0 +1,299 @@
+package com.commtalk.repository;
+
+import com.commtalk.domain.board.repository.PinnedBoardRepository;
+import com.commtalk.domain.file.entity.FileType;
+import com.commtalk.domain.file.repository.FileRepository;
+import com.commtalk.domain.post.entity.ActivityType;
+import com.commtalk.domain.post.repository.CommentRepository;
+import com.commtalk.domain.post.repository.MemberActivityRepository;
+import com.commtalk.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * 리포지토리 주요 쿼리의 실행 계획 검사
+ * 리포지토리 메서드를 실제로 호출해 실행된 SQL 과 바인딩 값을 수집하고, 로컬 DB 에서 EXPLAIN 을 실행해
+ * 실행 계획의 모든 테이블 중 하나라도 전체 스캔(type=ALL)으로 조회되면 실패
+ * 변경 쿼리도 검사하기 위해 트랜잭션 안에서 호출한 뒤 롤백
+ */
+@SpringBootTest
+@Import(QueryPlanTests.StatementCaptureConfig.class)
+class QueryPlanTests {
+
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+    private static final Timestamp CURSOR_AT = Timestamp.valueOf("2099-01-01 00:00:00");
+
+    // 실행 중인 스레드에서 수집한 SQL (수집 중이 아니면 null)
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+    @Autowired
+    private PostRepository postRepo;
+
+    @Autowired
+    private CommentRepository commentRepo;
+
+    @Autowired
+    private MemberActivityRepository activityRepo;
+
+    @Autowired
+    private FileRepository fileRepo;
+
+    @Autowired
+    private PinnedBoardRepository pinnedBoardRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TestFactory
+    Stream<DynamicTest> noFullScan() {
+        Long postId = findFirstId("SELECT post_id FROM post ORDER BY post_id LIMIT 1");
+        Long boardId = findFirstId("SELECT board_id FROM board ORDER BY board_id LIMIT 1");
+        Long memberId = findFirstId("SELECT member_id FROM member ORDER BY member_id LIMIT 1");
+        Long commentId = findFirstId("SELECT comment_id FROM comment ORDER BY comment_id LIMIT 1");
+        Long parentId = findFirstId("SELECT parent_comment_id FROM comment WHERE parent_comment_id IS NOT NULL LIMIT 1");
+        Long activityTypeId = findFirstId("SELECT activity_type_id FROM activity_type ORDER BY activity_type_id LIMIT 1");
+        ActivityType.TypeName activityType = ActivityType.TypeName.POST_LIKE;
+
+        return Stream.of(
+                // PostRepository
+                check("게시글 상세", () -> postRepo.findByIdAndDeletedYN(postId, false)),
+                check("게시글 목록 (식별자)", () -> postRepo.findSimpleListByIds(List.of(postId))),
+                check("게시글 목록", () -> postRepo.findSimpleList(false, PAGE)),
+                check("게시글 목록 (커서)", () -> postRepo.findSimpleListByCursor(CURSOR_AT, postId, false, PAGE)),
+                check("게시글 목록 (슬라이스)", () -> postRepo.findSimpleSlice(false, PAGE)),
+                check("게시판 게시글 목록", () -> postRepo.findSimpleListByBoardId(boardId, false, PAGE)),
+                check("게시판 게시글 목록 (커서)", () -> postRepo.findSimpleListByBoardIdAndCursor(boardId, CURSOR_AT, postId, false, PAGE)),
+                check("게시판 게시글 목록 (슬라이스)", () -> postRepo.findSimpleSliceByBoardId(boardId, false, PAGE)),
+                check("작성자 게시글 목록 (페이지)", () -> postRepo.findSimplePageByAuthorId(memberId, false, PAGE)),
+                check("작성자 게시글 목록 (슬라이스)", () -> postRepo.findSimpleSliceByAuthorId(memberId, false, PAGE)),
+                check("댓글 작성 게시글 목록 (페이지)", () -> postRepo.findSimplePageByCommenterId(memberId, false, PAGE)),
+                check("댓글 작성 게시글 목록 (슬라이스)", () -> postRepo.findSimpleSliceByCommenterId(memberId, false, PAGE)),
+                check("댓글 작성 게시글 목록", () -> postRepo.findSimpleListByCommenterId(memberId, false, PAGE)),
+                check("댓글 작성 게시글 목록 (커서)", () -> postRepo.findSimpleListByCommenterIdAndCursor(memberId, CURSOR_AT, postId, false, PAGE)),
+                check("활동 게시글 목록 (페이지)", () -> postRepo.findActivityPage(memberId, activityType, false, PAGE)),
+                check("활동 게시글 목록 (슬라이스)", () -> postRepo.findActivitySlice(memberId, activityType, false, PAGE)),
+                check("활동 게시글 목록", () -> postRepo.findActivityList(memberId, activityType, false, PAGE)),
+                check("활동 게시글 목록 (커서)", () -> postRepo.findActivityListByCursor(memberId, activityType, CURSOR_AT, Long.MAX_VALUE, false, PAGE)),
+                check("게시판별 인기 게시글 목록", () -> postRepo.findTopByViewsPerBoard(List.of(boardId), 2, false)),
+                check("인기 게시글 목록", () -> postRepo.findSimpleListOrderByViews(false, PageRequest.of(0, 3))),
+                check("게시판별 게시글 수", () -> postRepo.countGroupByBoardId(false)),
+                check("게시글 최대 식별자", () -> postRepo.findMaxId()),
+                check("게시글 댓글 수 증감", () -> postRepo.updateCommentCount(postId, 0)),
+                check("게시글 좋아요 수 증감", () -> postRepo.updateLikeCount(postId, 0)),
+                check("게시글 스크랩 수 증감", () -> postRepo.updateScrapCount(postId, 0)),
+                check("게시글 좋아요 수", () -> postRepo.findLikeCountById(postId)),
+                check("게시글 스크랩 수", () -> postRepo.findScrapCountById(postId)),
+                check("게시글 댓글 수 보정", () -> postRepo.reconcileCommentCount(postId, postId + 1000)),
+                check("게시글 조회수 반영", () -> postRepo.addViewCounts(Map.of(postId, 0L))),
+                check("좋아요 분산 슬롯 누적", () -> postRepo.addLikeShard(postId, 0, 0)),
+                check("좋아요 분산 슬롯 합계", () -> postRepo.sumLikeShards(postId)),
+                check("좋아요 분산 슬롯 게시글 목록", () -> postRepo.findLikeShardPostIds()),
+                check("좋아요 분산 슬롯 합산", () -> postRepo.foldLikeShards(postId)),
+                // 검색 색인 재구축은 삭제되지 않은 게시글을 모두 읽는 것이 목적이므로 실행 계획만 확인
+                checkFullRead("검색 색인 게시글", () -> {
+                    try (Stream<?> documents = postRepo.streamSearchDocuments(false)) {
+                        documents.findFirst();
+                    }
+                }),
+
+                // CommentRepository
+                check("댓글 상세", () -> commentRepo.findByIdWithWriter(commentId, false)),
+                check("게시글 댓글 목록", () -> commentRepo.findTopLevelList(postId, false, PAGE)),
+                check("게시글 댓글 목록 (커서)", () -> commentRepo.findTopLevelListByCursor(postId, CURSOR_AT, commentId, false, PAGE)),
+                check("대댓글 목록", () -> commentRepo.findReplyList(postId, parentId, false, PAGE)),
+                check("대댓글 목록 (커서)", () -> commentRepo.findReplyListByCursor(postId, parentId, CURSOR_AT, commentId, false, PAGE)),
+                check("게시글 댓글 내보내기", () -> {
+                    try (Stream<?> comments = commentRepo.streamAllByPostId(postId)) {
+                        comments.findFirst();
+                    }
+                }),
+                check("댓글 좋아요 수 증감", () -> commentRepo.updateLikeCount(commentId, 0)),
+                check("댓글 좋아요 수", () -> commentRepo.findLikeCountById(commentId)),
+                check("댓글 게시글 식별자", () -> commentRepo.findPostIdById(commentId)),
+                check("대댓글 수 증감", () -> commentRepo.updateChildCount(commentId, 0)),
+
+                // MemberActivityRepository
+                check("회원 활동 저장", () -> activityRepo.insertIgnore(memberId, postId, activityTypeId)),
+                check("회원 활동 삭제", () -> activityRepo.delete(memberId, postId, activityTypeId)),
+                check("회원 활동 대상 목록", () -> activityRepo.findRefIds(memberId, activityTypeId)),
+                check("대상별 회원 활동 삭제", () -> activityRepo.deleteAllByRefIdAndTypeName(postId, activityType)),
+
+                // FileRepository
+                check("대상별 파일", () -> fileRepo.findByRefIdAndTypeName(postId, FileType.TypeName.POST)),
+                check("대상별 파일 목록", () -> fileRepo.findAllByRefIdAndTypeName(postId, FileType.TypeName.POST)),
+                check("대상별 저장 파일명", () -> fileRepo.findSaveFileNameByRefIdAndTypeName(postId, FileType.TypeName.POST)),
+                check("대상별 파일 삭제", () -> fileRepo.deleteAllByRefIdAndTypeName(postId, FileType.TypeName.POST)),
+
+                // PinnedBoardRepository
+                check("회원 고정 게시판", () -> pinnedBoardRepo.findAllByMemberIdPinnedOrderByOrderAsc(memberId))
+        );
+    }
+
+    private DynamicTest check(String name, Runnable call) {
+        return DynamicTest.dynamicTest(name, () -> assertPlans(name, call, true));
+    }
+
+    private DynamicTest checkFullRead(String name, Runnable call) {
+        return DynamicTest.dynamicTest(name, () -> assertPlans(name, call, false));
+    }
+
+    private void assertPlans(String name, Runnable call, boolean noFullScan) {
+        List<CapturedStatement> statements = capture(call);
+        assertFalse(statements.isEmpty(), name + " - 실행된 쿼리가 없습니다.");
+
+        for (CapturedStatement statement : statements) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.params().toArray());
+            assertFalse(plan.isEmpty(), name + " - 실행 계획이 없습니다: " + statement.sql());
+            if (!noFullScan) {
+                continue;
+            }
+
+            for (Map<String, Object> row : plan) {
+                // 테이블을 읽지 않는 행, 파생/구체화 테이블, INSERT 대상 행은 제외
+                Object table = row.get("table");
+                if (table == null || table.toString().startsWith("<") || "INSERT".equals(row.get("select_type"))) {
+                    continue;
+                }
+                assertNotEquals("ALL", row.get("type"), name + " - 전체 스캔: " + row + "\n" + statement.sql());
+            }
+        }
+    }
+
+    private List<CapturedStatement> capture(Runnable call) {
+        // 변경 쿼리가 반영되지 않도록 트랜잭션 안에서 호출 후 롤백 (같은 SQL 은 한 번만 검사)
+        List<CapturedStatement> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                call.run();
+                status.setRollbackOnly();
+            });
+        } finally {
+            CAPTURED.remove();
+        }
+
+        Map<String, CapturedStatement> distinct = new LinkedHashMap<>();
+        captured.forEach(statement -> distinct.putIfAbsent(statement.sql(), statement));
+        return new ArrayList<>(distinct.values());
+    }
+
+    private Long findFirstId(String sql) {
+        // 데이터가 없어도 실행 계획은 확인할 수 있으므로 임의 식별자 사용
+        List<Long> ids = jdbcTemplate.queryForList(sql, Long.class);
+        return ids.isEmpty() ? 1L : ids.get(0);
+    }
+
+    private record CapturedStatement(String sql, List<Object> params) {
+    }
+
+    /**
+     * 데이터소스를 감싸 PreparedStatement 로 실행된 SQL 과 바인딩 값을 수집 (JPA, JdbcTemplate 쿼리 모두 포함)
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+                "executeLargeUpdate", "addBatch");
+
+        @Bean
+        static BeanPostProcessor statementCaptureDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource dataSource) ? new CapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+
+        private static class CapturingDataSource extends DelegatingDataSource {
+
+            CapturingDataSource(DataSource targetDataSource) {
+                super(targetDataSource);
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return capturing(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return capturing(super.getConnection(username, password));
+            }
+
+        }
+
+        private static Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(method, connection, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return capturing(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            params.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            params.clear();
+                        } else if (EXECUTE_METHODS.contains(name) && (args == null || args.length == 0)) {
+                            List<CapturedStatement> captured = CAPTURED.get();
+                            if (captured != null) {
+                                captured.add(new CapturedStatement(sql, new ArrayList<>(params.values())));
+                            }
+                        }
+                        return invoke(method, statement, args);
+                    });
+        }
+
+        private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.commtalk.service;
+
+import com.commtalk.domain.post.cache.CommentThreadCache;
+import com.commtalk.domain.post.dto.CommentPageDTO;
+import com.commtalk.domain.post.dto.ReplyPageDTO;
+import com.commtalk.domain.post.service.CommentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 댓글 목록 조회 쿼리 수 검사
+ * 작성자가 서로 다른 댓글 500개를 조회해도 작성자 지연 로딩 없이 한 번의 쿼리로 조회하는지 확인
+ * 첫 페이지 캐시는 테스트 전후로 비우고, 캐시에 없을 때 한 번, 캐시에 있을 때 쿼리 없이 조회하는지 확인
+ * 테스트용 댓글은 테스트 후 삭제
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentQueryCountTests {
+
+    private static final int COMMENT_COUNT = 500;
+    private static final String TEST_CONTENT = "comment-query-count-test";
+
+    @Autowired
+    private CommentService commentSvc;
+
+    @Autowired
+    private CommentThreadCache commentThreadCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long postId;
+    private Long parentId;
+
+    @BeforeEach
+    void setUp() {
+        List<Long> postIds = jdbcTemplate.queryForList(
+                "SELECT post_id FROM post WHERE deleted_yn = 0 ORDER BY post_id LIMIT 1", Long.class);
+        List<Long> memberIds = jdbcTemplate.queryForList(
+                "SELECT member_id FROM member WHERE deleted_yn = 0 ORDER BY member_id LIMIT " + COMMENT_COUNT, Long.class);
+        assumeTrue(!postIds.isEmpty() && !memberIds.isEmpty(), "테스트할 게시글 또는 회원이 없습니다.");
+        postId = postIds.get(0);
+        commentThreadCache.evict(postId);
+
+        // 최상위 댓글 500개 (작성자를 번갈아 지정)
+        List<Object[]> topLevelArgs = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            topLevelArgs.add(new Object[]{postId, memberIds.get(i % memberIds.size())});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comment (post_id, writer_id, comment_content) VALUES (?, ?, '" + TEST_CONTENT + "')",
+                topLevelArgs);
+
+        // 첫 번째 테스트 댓글에 대댓글 500개
+        parentId = jdbcTemplate.queryForObject("SELECT MIN(comment_id) FROM comment WHERE post_id = ? AND comment_content = ?",
+                Long.class, postId, TEST_CONTENT);
+        List<Object[]> replyArgs = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            replyArgs.add(new Object[]{postId, memberIds.get(i % memberIds.size()), parentId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comment (post_id, writer_id, parent_comment_id, comment_content) " +
+                "VALUES (?, ?, ?, '" + TEST_CONTENT + "')", replyArgs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (postId == null) {
+            return;
+        }
+        commentThreadCache.evict(postId);
+        jdbcTemplate.update("DELETE FROM comment WHERE post_id = ? AND comment_content = ? AND parent_comment_id IS NOT NULL",
+                postId, TEST_CONTENT);
+        jdbcTemplate.update("DELETE FROM comment WHERE post_id = ? AND comment_content = ?", postId, TEST_CONTENT);
+    }
+
+    @Test
+    void getCommentsByPostInOneStatement() {
+        int topLevelCount = countTopLevelComments(); // 기존 댓글 포함
+        Statistics statistics = getStatistics();
+
+        CommentPageDTO commentPageDto = commentSvc.getCommentsByPost(postId, null, null, topLevelCount);
+
+        assertEquals(topLevelCount, commentPageDto.getComments().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getFirstPageOnCacheMiss() {
+        Statistics statistics = getStatistics();
+
+        CommentPageDTO commentPageDto = commentSvc.getCommentsByPost(postId, null, null, CommentThreadCache.PAGE_SIZE);
+
+        assertEquals(CommentThreadCache.PAGE_SIZE, commentPageDto.getComments().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getFirstPageOnCacheHit() {
+        commentSvc.getCommentsByPost(postId, null, null, CommentThreadCache.PAGE_SIZE); // 캐시에 적재
+        Statistics statistics = getStatistics();
+
+        CommentPageDTO commentPageDto = commentSvc.getCommentsByPost(postId, null, null, CommentThreadCache.PAGE_SIZE);
+
+        assertEquals(CommentThreadCache.PAGE_SIZE, commentPageDto.getComments().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getRepliesInOneStatement() {
+        Statistics statistics = getStatistics();
+
+        ReplyPageDTO replyPageDto = commentSvc.getReplies(postId, parentId, null, null, COMMENT_COUNT);
+
+        assertEquals(COMMENT_COUNT, replyPageDto.getReplies().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private int countTopLevelComments() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comment " +
+                "WHERE post_id = ? AND parent_comment_id IS NULL AND deleted_yn = 0", Integer.class, postId);
+    }
+
+    private Statistics getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+}
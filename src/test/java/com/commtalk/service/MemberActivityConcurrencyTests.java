@@ -0,0 +1,154 @@
+package com.commtalk.service;
+
+import com.commtalk.domain.post.entity.ActivityType;
+import com.commtalk.domain.post.service.MemberActivityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 좋아요/스크랩 수 동시성 검사
+ * 여러 회원이 같은 게시글(댓글)을 동시에 좋아요/취소했을 때 카운터 증감이 member_activity 행 수 변화와 일치하는지 확인
+ * 회원마다 짝수 번 토글하므로 테스트 후 데이터는 원래 상태로 돌아감
+ * 같은 회원이 동시에 토글하는 경우에는 교착 없이 끝나고 카운터가 실제 변경된 행 수만큼만 증감하는지 확인
+ */
+@SpringBootTest
+class MemberActivityConcurrencyTests {
+
+    private static final int MEMBER_LIMIT = 30;
+    private static final int TOGGLES_PER_MEMBER = 100;
+    private static final int SAME_MEMBER_THREADS = 10;
+
+    // 인기 게시글로 판단되면 분산 슬롯에 누적되므로 아직 합산되지 않은 증감분 포함
+    private static final String POST_LIKE_COUNTER_SQL = "SELECT p.like_count + COALESCE((SELECT SUM(s.delta) " +
+            "FROM post_like_shard s WHERE s.post_id = p.post_id), 0) FROM post p WHERE p.post_id = ?";
+
+    @Autowired
+    private MemberActivityService memberActivitySvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void likePostConcurrently() {
+        Long postId = findFirstId("SELECT post_id FROM post WHERE deleted_yn = 0 ORDER BY post_id LIMIT 1");
+        ActivityType.TypeName typeName = ActivityType.TypeName.POST_LIKE;
+
+        assertCounterMatchesActivities(POST_LIKE_COUNTER_SQL, postId, typeName,
+                memberId -> memberActivitySvc.likePost(memberId, postId));
+    }
+
+    @Test
+    void likePostBySameMemberConcurrently() {
+        Long postId = findFirstId("SELECT post_id FROM post WHERE deleted_yn = 0 ORDER BY post_id LIMIT 1");
+        Long memberId = findFirstId("SELECT member_id FROM member WHERE deleted_yn = 0 ORDER BY member_id LIMIT 1");
+        ActivityType.TypeName typeName = ActivityType.TypeName.POST_LIKE;
+
+        long counterBefore = jdbcTemplate.queryForObject(POST_LIKE_COUNTER_SQL, Long.class, postId);
+        long activitiesBefore = countActivities(postId, typeName);
+
+        // 같은 회원의 토글을 여러 스레드에서 동시에 실행 (교착 발생 시 예외로 실패)
+        runConcurrently(Collections.nCopies(SAME_MEMBER_THREADS, memberId),
+                id -> memberActivitySvc.likePost(id, postId));
+
+        long counterAfter = jdbcTemplate.queryForObject(POST_LIKE_COUNTER_SQL, Long.class, postId);
+        long activitiesAfter = countActivities(postId, typeName);
+
+        assertEquals(activitiesAfter - activitiesBefore, counterAfter - counterBefore);
+
+        // 동시 요청이 변경 없이 끝난 경우 토글 횟수의 짝이 맞지 않으므로 원래 상태로 되돌림
+        if (activitiesAfter != activitiesBefore) {
+            memberActivitySvc.likePost(memberId, postId);
+        }
+        assertEquals(counterBefore, jdbcTemplate.queryForObject(POST_LIKE_COUNTER_SQL, Long.class, postId));
+    }
+
+    @Test
+    void scrapPostConcurrently() {
+        Long postId = findFirstId("SELECT post_id FROM post WHERE deleted_yn = 0 ORDER BY post_id LIMIT 1");
+        ActivityType.TypeName typeName = ActivityType.TypeName.POST_SCRAP;
+
+        assertCounterMatchesActivities("SELECT scrap_count FROM post WHERE post_id = ?", postId, typeName,
+                memberId -> memberActivitySvc.scrapPost(memberId, postId));
+    }
+
+    @Test
+    void likeCommentConcurrently() {
+        Long commentId = findFirstId("SELECT comment_id FROM comment WHERE deleted_yn = 0 ORDER BY comment_id LIMIT 1");
+        ActivityType.TypeName typeName = ActivityType.TypeName.COMMENT_LIKE;
+
+        assertCounterMatchesActivities("SELECT like_count FROM comment WHERE comment_id = ?", commentId, typeName,
+                memberId -> memberActivitySvc.likeComment(memberId, commentId));
+    }
+
+    private void assertCounterMatchesActivities(String counterSql, Long refId, ActivityType.TypeName typeName,
+                                                Consumer<Long> toggle) {
+        List<Long> memberIds = jdbcTemplate.queryForList(
+                "SELECT member_id FROM member WHERE deleted_yn = 0 ORDER BY member_id LIMIT " + MEMBER_LIMIT, Long.class);
+        assumeTrue(!memberIds.isEmpty(), "테스트할 회원이 없습니다.");
+
+        long counterBefore = jdbcTemplate.queryForObject(counterSql, Long.class, refId);
+        long activitiesBefore = countActivities(refId, typeName);
+
+        runConcurrently(memberIds, toggle);
+
+        long counterAfter = jdbcTemplate.queryForObject(counterSql, Long.class, refId);
+        long activitiesAfter = countActivities(refId, typeName);
+
+        assertEquals(activitiesAfter - activitiesBefore, counterAfter - counterBefore);
+        assertEquals(counterBefore, counterAfter);
+    }
+
+    private void runConcurrently(List<Long> memberIds, Consumer<Long> toggle) {
+        // 목록의 회원마다 스레드 하나씩 할당하고 동시에 시작
+        ExecutorService executor = Executors.newFixedThreadPool(memberIds.size());
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                for (int i = 0; i < TOGGLES_PER_MEMBER; i++) {
+                    toggle.accept(memberId);
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long countActivities(Long refId, ActivityType.TypeName typeName) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_activity ma " +
+                "JOIN activity_type t ON t.activity_type_id = ma.activity_type_id " +
+                "WHERE ma.ref_id = ? AND t.type_name = ?", Long.class, refId, typeName.name());
+    }
+
+    private Long findFirstId(String sql) {
+        List<Long> ids = jdbcTemplate.queryForList(sql, Long.class);
+        assumeTrue(!ids.isEmpty(), "테스트할 데이터가 없습니다.");
+        return ids.get(0);
+    }
+
+}